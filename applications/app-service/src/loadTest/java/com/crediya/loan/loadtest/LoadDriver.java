@@ -0,0 +1,74 @@
+package com.crediya.loan.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Generador de carga a tasa fija (lazo abierto): las peticiones se programan cada {@code 1/rate}
+ * sin esperar a las anteriores, hasta {@code maxInFlight} concurrentes. La latencia se mide desde el
+ * instante programado y no desde el envío, para no ocultar la espera cuando el servicio se satura
+ * (omisión coordinada).
+ */
+public class LoadDriver {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int maxInFlight;
+
+    public LoadDriver(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Ejecuta el escenario durante {@code warmup} sin registrar y luego durante {@code duration}.
+     *
+     * @param request recibe el número de petición y emite el código HTTP de la respuesta
+     */
+    public ScenarioResult run(String name, int rate, Duration warmup, Duration duration,
+                              LongFunction<Mono<Integer>> request) {
+        drive(rate, warmup, request, null, null);
+
+        Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+        drive(rate, duration, request, recorder, errors);
+        long elapsed = System.nanoTime() - start;
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        return ScenarioResult.of(name, rate, histogram, errors.sum(), elapsed);
+    }
+
+    private void drive(int rate, Duration duration, LongFunction<Mono<Integer>> request,
+                       Recorder recorder, LongAdder errors) {
+        long total = duration.toNanos() * rate / TimeUnit.SECONDS.toNanos(1);
+        if (total <= 0) {
+            return;
+        }
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long origin = System.nanoTime();
+        Flux.interval(Duration.ofNanos(period))
+                .take(total)
+                .flatMap(tick -> {
+                    long scheduled = origin + (tick + 1) * period;
+                    return request.apply(tick)
+                            .onErrorReturn(-1)
+                            .doOnNext(status -> {
+                                if (recorder == null) {
+                                    return;
+                                }
+                                recorder.recordValue(Math.min(System.nanoTime() - scheduled, MAX_LATENCY_NANOS));
+                                if (status < 200 || status >= 300) {
+                                    errors.increment();
+                                }
+                            });
+                }, maxInFlight)
+                .blockLast();
+    }
+}
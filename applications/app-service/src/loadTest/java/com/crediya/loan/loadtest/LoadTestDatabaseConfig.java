@@ -0,0 +1,49 @@
+package com.crediya.loan.loadtest;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+
+/**
+ * Reemplaza el pool de MySQL por una base H2 en memoria (modo MySQL) con el mismo esquema y los
+ * catálogos mínimos. El pool de MySQL se sigue declarando, pero nunca adquiere conexiones.
+ */
+@Configuration
+public class LoadTestDatabaseConfig {
+
+    @Bean
+    @Primary
+    public ConnectionPool loadTestConnectionPool() {
+        ConnectionFactory h2 = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("loadtest")
+                .property("DB_CLOSE_DELAY", "-1")
+                .property("MODE", "MySQL")
+                .build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(h2)
+                .name("loadtest-h2-connection-pool")
+                .initialSize(4)
+                .maxSize(16)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+    }
+
+    @Bean
+    public ConnectionFactoryInitializer loadTestSchemaInitializer(ConnectionPool loadTestConnectionPool) {
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(loadTestConnectionPool);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(
+                new ClassPathResource("loadtest/schema.sql"),
+                new ClassPathResource("loadtest/data.sql")));
+        return initializer;
+    }
+}
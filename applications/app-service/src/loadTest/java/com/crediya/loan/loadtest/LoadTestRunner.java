@@ -0,0 +1,173 @@
+package com.crediya.loan.loadtest;
+
+import com.crediya.loan.MainApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Prueba de carga de punta a punta: levanta el servicio completo (puerto aleatorio) sobre H2 en
+ * memoria y un servicio de usuarios simulado, precarga solicitudes y ejecuta cada escenario a tasa
+ * fija. Imprime throughput y p50/p95/p99 y deja el detalle en JSON. Se ejecuta con
+ * {@code ./gradlew :app-service:loadTest -Ploadtest.rate=100 -Ploadtest.userLatencyMs=50}; los
+ * argumentos {@code --args} se pasan a Spring (p. ej. para desactivar cachés y comparar).
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final String SCENARIO_CREATE = "create";
+    private static final String SCENARIO_PENDING = "pending";
+    private static final long LOAN_TYPE_ID = 1L;
+    private static final long PENDING_STATE_ID = 1L;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (UserServiceStub users = new UserServiceStub(settings.users(), settings.userLatency())) {
+            users.start();
+
+            String[] springArgs = Stream.concat(Stream.of(
+                            "--server.port=0",
+                            "--spring.liquibase.enabled=false",
+                            "--spring.devtools.restart.enabled=false",
+                            "--adapter.restconsumer.url=" + users.url(),
+                            "--logging.level.root=WARN",
+                            "--logging.level.com.crediya.loan.loadtest=INFO"),
+                    Stream.of(args)).toArray(String[]::new);
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MainApplication.class).run(springArgs)) {
+                Environment env = context.getEnvironment();
+                WebClient client = WebClient.builder()
+                        .baseUrl("http://localhost:" + env.getProperty("local.server.port"))
+                        .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token(env))
+                        .build();
+
+                seed(context.getBean(DatabaseClient.class), settings);
+
+                LoadDriver driver = new LoadDriver(settings.maxInFlight());
+                List<ScenarioResult> results = new ArrayList<>();
+                for (String scenario : settings.scenarios()) {
+                    log.info("[loadTest] Escenario {}: {} req/s durante {} (calentamiento {})",
+                            scenario, settings.rate(), settings.duration(), settings.warmup());
+                    ScenarioResult result = driver.run(scenario, settings.rate(), settings.warmup(),
+                            settings.duration(), request(scenario, client, settings));
+                    log.info("[loadTest] {}", format(result));
+                    results.add(result);
+                }
+                write(settings, results, users.calls());
+            }
+        }
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private static LongFunction<Mono<Integer>> request(String scenario, WebClient client, LoadTestSettings settings) {
+        return switch (scenario) {
+            case SCENARIO_CREATE -> n -> {
+                int user = (int) (n % settings.users());
+                Map<String, Object> body = Map.of(
+                        "amount", new BigDecimal("2500000"),
+                        "term", LocalDate.now().plusYears(2).toString(),
+                        "email", UserServiceStub.email(user),
+                        "identityDocument", UserServiceStub.document(user),
+                        "loanTypeId", LOAN_TYPE_ID);
+                return client.post().uri("/api/v1/solicitud")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .exchangeToMono(resp -> resp.releaseBody().thenReturn(resp.statusCode().value()));
+            };
+            case SCENARIO_PENDING -> {
+                int pages = Math.max(1, Math.min(50, settings.seedApplications() / settings.pageSize()));
+                yield n -> client.get()
+                        .uri(b -> b.path("/api/v1/solicitud/pending")
+                                .queryParam("page", n % pages + 1)
+                                .queryParam("size", settings.pageSize())
+                                .build())
+                        .exchangeToMono(resp -> resp.releaseBody().thenReturn(resp.statusCode().value()));
+            }
+            default -> throw new IllegalArgumentException("Escenario desconocido: " + scenario);
+        };
+    }
+
+    /** Precarga solicitudes pendientes para que el listado tenga páginas que recorrer. */
+    private static void seed(DatabaseClient db, LoadTestSettings settings) {
+        LocalDate term = LocalDate.now().plusYears(1);
+        Long inserted = Flux.range(0, settings.seedApplications())
+                .flatMap(i -> db.sql("""
+                                INSERT INTO solicitud (monto, plazo, email, documento_identidad, id_estado, id_tipo_prestamo)
+                                VALUES (:amount, :term, :email, :document, :state, :loanType)""")
+                        .bind("amount", BigDecimal.valueOf(1_000_000L + i * 1_000L))
+                        .bind("term", term)
+                        .bind("email", UserServiceStub.email(i % settings.users()))
+                        .bind("document", UserServiceStub.document(i % settings.users()))
+                        .bind("state", PENDING_STATE_ID)
+                        .bind("loanType", LOAN_TYPE_ID)
+                        .fetch().rowsUpdated(), 8)
+                .count()
+                .block();
+        log.info("[loadTest] {} solicitudes precargadas", inserted);
+    }
+
+    private static String token(Environment env) {
+        String secret = env.getRequiredProperty("security.secret");
+        return Jwts.builder()
+                .setSubject("loadtest")
+                .setIssuer(env.getProperty("security.issuer"))
+                .claim("roles", List.of("ADMIN"))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(2).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static void write(LoadTestSettings settings, List<ScenarioResult> results,
+                              Map<String, Long> userServiceCalls) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("scenarios", results);
+        report.put("userServiceCalls", userServiceCalls);
+
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(settings.output().toAbsolutePath().getParent());
+        Files.writeString(settings.output(), json.writeValueAsString(report));
+        log.info("[loadTest] Llamadas al servicio de usuarios: {}", userServiceCalls);
+        log.info("[loadTest] Resultados en {}", settings.output().toAbsolutePath());
+    }
+
+    private static String format(ScenarioResult r) {
+        return String.format("%s: %d peticiones, %d errores, %.1f req/s, p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                r.scenario(), r.requests(), r.errors(), r.throughput(), r.p50(), r.p95(), r.p99(), r.max());
+    }
+}
@@ -0,0 +1,55 @@
+package com.crediya.loan.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parámetros de la corrida, leídos de propiedades de sistema {@code -Dloadtest.*}
+ * (el task {@code loadTest} las reenvía desde {@code -Ploadtest.*}).
+ *
+ * @param scenarios        escenarios a ejecutar, en orden ({@code create}, {@code pending})
+ * @param rate             peticiones por segundo de cada escenario
+ * @param duration         duración de la medición de cada escenario
+ * @param warmup           tráfico previo a la medición (no se registra)
+ * @param maxInFlight      tope de peticiones concurrentes del generador
+ * @param userLatency      latencia simulada del servicio de usuarios
+ * @param users            tamaño del directorio de usuarios simulado
+ * @param seedApplications solicitudes precargadas antes de medir
+ * @param pageSize         tamaño de página del listado de pendientes
+ * @param output           archivo JSON con los resultados
+ */
+public record LoadTestSettings(
+        List<String> scenarios,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        int maxInFlight,
+        Duration userLatency,
+        int users,
+        int seedApplications,
+        int pageSize,
+        Path output) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Arrays.stream(prop("scenarios", "create,pending").split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .toList(),
+                Integer.parseInt(prop("rate", "50")),
+                Duration.parse(prop("duration", "PT30S")),
+                Duration.parse(prop("warmup", "PT5S")),
+                Integer.parseInt(prop("maxInFlight", "256")),
+                Duration.ofMillis(Long.parseLong(prop("userLatencyMs", "20"))),
+                Integer.parseInt(prop("users", "1000")),
+                Integer.parseInt(prop("seedApplications", "1000")),
+                Integer.parseInt(prop("pageSize", "20")),
+                Path.of(prop("output", "build/results/loadtest/results.json")));
+    }
+
+    private static String prop(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
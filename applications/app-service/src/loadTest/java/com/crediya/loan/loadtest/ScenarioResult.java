@@ -0,0 +1,43 @@
+package com.crediya.loan.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resultado de un escenario. Las latencias van en milisegundos.
+ *
+ * @param targetRate peticiones por segundo programadas
+ * @param throughput respuestas por segundo efectivamente recibidas
+ * @param errors     respuestas que no fueron 2xx (incluye errores de conexión)
+ */
+public record ScenarioResult(
+        String scenario,
+        int targetRate,
+        long requests,
+        long errors,
+        double throughput,
+        double p50,
+        double p95,
+        double p99,
+        double max) {
+
+    static ScenarioResult of(String scenario, int targetRate, Histogram histogram, long errors, long elapsedNanos) {
+        long requests = histogram.getTotalCount();
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new ScenarioResult(
+                scenario,
+                targetRate,
+                requests,
+                errors,
+                seconds == 0 ? 0 : requests / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
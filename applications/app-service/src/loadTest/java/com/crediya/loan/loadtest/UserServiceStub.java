@@ -0,0 +1,150 @@
+package com.crediya.loan.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servicio de usuarios simulado con MockWebServer. El directorio tiene {@code users} usuarios con
+ * documentos consecutivos desde {@link #FIRST_DOCUMENT}; cada respuesta se retrasa {@code latency}
+ * para reproducir el costo de la llamada remota. Cuenta las llamadas por ruta para el reporte.
+ */
+public class UserServiceStub implements AutoCloseable {
+
+    static final long FIRST_DOCUMENT = 10_000_000L;
+
+    private final MockWebServer server = new MockWebServer();
+    private final ObjectMapper json = new ObjectMapper();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final int users;
+    private final Duration latency;
+
+    public UserServiceStub(int users, Duration latency) {
+        this.users = users;
+        this.latency = latency;
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return handle(request);
+            }
+        });
+    }
+
+    public static String document(int index) {
+        return String.valueOf(FIRST_DOCUMENT + index);
+    }
+
+    public static String email(int index) {
+        return "cliente" + index + "@mail.com";
+    }
+
+    public void start() throws IOException {
+        server.start();
+    }
+
+    public String url() {
+        String url = server.url("/").toString();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /** Llamadas recibidas por ruta (método + path), ordenadas. */
+    public Map<String, Long> calls() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        calls.forEach((route, count) -> snapshot.put(route, count.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private MockResponse handle(RecordedRequest request) {
+        String path = request.getPath() == null ? "" : request.getPath().split("\\?")[0];
+        calls.computeIfAbsent(request.getMethod() + " " + path, k -> new LongAdder()).increment();
+        try {
+            ObjectNode body = switch (path) {
+                case "/api/v1/users/exist" -> exist(json.readTree(request.getBody().readUtf8()));
+                case "/api/v1/users/exist/batch" -> existBatch(json.readTree(request.getBody().readUtf8()));
+                case "/api/v1/usuarios" -> directory();
+                case "/api/v1/usuarios/documentos" -> byDocuments(json.readTree(request.getBody().readUtf8()));
+                default -> null;
+            };
+            if (body == null) {
+                return new MockResponse().setResponseCode(404);
+            }
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setHeadersDelay(latency.toMillis(), TimeUnit.MILLISECONDS)
+                    .setBody(json.writeValueAsString(body));
+        } catch (IOException e) {
+            return new MockResponse().setResponseCode(500);
+        }
+    }
+
+    private ObjectNode exist(JsonNode request) {
+        return json.createObjectNode().put("success", exists(request.path("document").asText()));
+    }
+
+    private ObjectNode existBatch(JsonNode request) {
+        ObjectNode response = json.createObjectNode().put("success", true);
+        ArrayNode data = response.putArray("data");
+        request.path("users").forEach(user -> data.addObject()
+                .put("document", user.path("document").asText())
+                .put("email", user.path("email").asText())
+                .put("exists", exists(user.path("document").asText())));
+        return response;
+    }
+
+    private ObjectNode directory() {
+        ObjectNode response = json.createObjectNode().put("success", true);
+        ArrayNode data = response.putArray("data");
+        for (int i = 0; i < users; i++) {
+            addUser(data, document(i));
+        }
+        return response;
+    }
+
+    private ObjectNode byDocuments(JsonNode request) {
+        ObjectNode response = json.createObjectNode().put("success", true);
+        ArrayNode data = response.putArray("data");
+        request.path("documents").forEach(doc -> {
+            if (exists(doc.asText())) {
+                addUser(data, doc.asText());
+            }
+        });
+        return response;
+    }
+
+    private void addUser(ArrayNode data, String document) {
+        data.addObject()
+                .put("firstName", "Nombre" + document)
+                .put("lastName", "Apellido" + document)
+                .put("identityDocument", document)
+                .put("baseSalary", 2_500_000);
+    }
+
+    private boolean exists(String document) {
+        try {
+            long offset = Long.parseLong(document) - FIRST_DOCUMENT;
+            return offset >= 0 && offset < users;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
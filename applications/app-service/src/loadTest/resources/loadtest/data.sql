@@ -0,0 +1,8 @@
+INSERT INTO estados (nombre, descripcion, codigo) VALUES
+    ('Pendiente de revisión', 'Solicitud recibida', 'PEN'),
+    ('Aprobada', 'Solicitud aprobada', 'APR'),
+    ('Rechazada', 'Solicitud rechazada', 'REC');
+
+INSERT INTO tipo_prestamo (nombre, monto_minimo, monto_maximo, tasa_interes, validacion_automatica) VALUES
+    ('Libre inversión', 1000000, 50000000, 1.50, TRUE),
+    ('Vehículo', 5000000, 150000000, 1.20, FALSE);
@@ -0,0 +1,37 @@
+-- Esquema equivalente a db/changelog para H2 (modo MySQL); el índice FULLTEXT es exclusivo de MySQL.
+CREATE TABLE IF NOT EXISTS tipo_prestamo (
+    id_tipo_prestamo      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    nombre                VARCHAR(255)  NOT NULL,
+    monto_minimo          DECIMAL(19,2) NOT NULL,
+    monto_maximo          DECIMAL(19,2) NOT NULL,
+    tasa_interes          DECIMAL(5,2)  NOT NULL,
+    validacion_automatica BOOLEAN       NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS estados (
+    id_estado   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    nombre      VARCHAR(255) NOT NULL,
+    descripcion VARCHAR(255),
+    codigo      VARCHAR(100) NOT NULL,
+    CONSTRAINT uq_estados_codigo UNIQUE (codigo)
+);
+
+CREATE TABLE IF NOT EXISTS solicitud (
+    id_solicitud       BIGINT AUTO_INCREMENT PRIMARY KEY,
+    monto              DECIMAL(19,2) NOT NULL,
+    plazo              DATE          NOT NULL,
+    email              VARCHAR(255)  NOT NULL,
+    documento_identidad VARCHAR(50)  NOT NULL,
+    id_estado          BIGINT        NOT NULL,
+    id_tipo_prestamo   BIGINT        NOT NULL,
+    CONSTRAINT fk_solicitud_estado FOREIGN KEY (id_estado) REFERENCES estados (id_estado),
+    CONSTRAINT fk_solicitud_tipo_prestamo FOREIGN KEY (id_tipo_prestamo) REFERENCES tipo_prestamo (id_tipo_prestamo)
+);
+
+CREATE INDEX IF NOT EXISTS idx_solicitud_estado ON solicitud (id_estado);
+CREATE INDEX IF NOT EXISTS idx_solicitud_tipo_prestamo ON solicitud (id_tipo_prestamo);
+CREATE INDEX IF NOT EXISTS idx_solicitud_documento ON solicitud (documento_identidad);
+CREATE INDEX IF NOT EXISTS idx_solicitud_monto ON solicitud (monto);
+CREATE INDEX IF NOT EXISTS idx_solicitud_plazo ON solicitud (plazo);
+CREATE INDEX IF NOT EXISTS idx_solicitud_email ON solicitud (email);
+CREATE INDEX IF NOT EXISTS idx_estados_nombre ON estados (nombre);
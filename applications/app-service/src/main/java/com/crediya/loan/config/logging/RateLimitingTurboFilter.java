@@ -0,0 +1,84 @@
+package com.crediya.loan.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cupo de eventos por segundo para una categoría (prefijo de logger), declarado en
+ * {@code logback-spring.xml}. Solo limita niveles por debajo de WARN: advertencias y errores siempre
+ * pasan. El evento que excede el cupo se descarta antes de formatear el mensaje o de llegar al
+ * appender, así que su costo en el event loop es un par de operaciones atómicas.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier clock;
+    private final AtomicLong windowStart = new AtomicLong();
+    private final AtomicInteger inWindow = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    private String category;
+    private int maxPerSecond = 100;
+
+    public RateLimitingTurboFilter() {
+        this(System::nanoTime);
+    }
+
+    RateLimitingTurboFilter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /** Eventos descartados desde el arranque. */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+        if (category == null || category.isBlank()) {
+            addError("Falta <category> en " + getName());
+            return;
+        }
+        windowStart.set(clock.getAsLong());
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format == null son las consultas isXxxEnabled(): no consumen cupo
+        if (!isStarted() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !logger.getName().startsWith(category)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long now = clock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            inWindow.set(0);
+        }
+        if (inWindow.incrementAndGet() <= maxPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.increment();
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,90 @@
+package com.crediya.loan.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RateLimitingTurboFilterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final LoggerContext context = new LoggerContext();
+    private Logger consumer;
+    private Logger other;
+    private RateLimitingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        consumer = context.getLogger("com.crediya.loan.consumer.RestConsumer");
+        consumer.setLevel(Level.DEBUG);
+        other = context.getLogger("com.crediya.loan.api.ApplicationHandler");
+        other.setLevel(Level.DEBUG);
+
+        filter = new RateLimitingTurboFilter(now::get);
+        filter.setContext(context);
+        filter.setCategory("com.crediya.loan.consumer");
+        filter.setMaxPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    void deniesEventsOverTheLimitWithinTheSameSecond() {
+        assertEquals(FilterReply.NEUTRAL, decide(consumer, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(consumer, Level.DEBUG));
+        assertEquals(FilterReply.DENY, decide(consumer, Level.INFO));
+        assertEquals(1, filter.getDropped());
+    }
+
+    @Test
+    void resetsTheQuotaWhenTheWindowEnds() {
+        decide(consumer, Level.INFO);
+        decide(consumer, Level.INFO);
+        assertEquals(FilterReply.DENY, decide(consumer, Level.INFO));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(FilterReply.NEUTRAL, decide(consumer, Level.INFO));
+    }
+
+    @Test
+    void neverLimitsWarningsOrErrors() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(consumer, Level.WARN));
+            assertEquals(FilterReply.NEUTRAL, decide(consumer, Level.ERROR));
+        }
+        assertEquals(0, filter.getDropped());
+    }
+
+    @Test
+    void ignoresOtherCategoriesDisabledLevelsAndEnabledChecks() {
+        consumer.setLevel(Level.INFO);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+            assertEquals(FilterReply.NEUTRAL, decide(consumer, Level.DEBUG));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, consumer, Level.INFO, null, null, null));
+        }
+        assertEquals(0, filter.getDropped());
+    }
+
+    @Test
+    void doesNotStartWithoutCategory() {
+        RateLimitingTurboFilter unconfigured = new RateLimitingTurboFilter(now::get);
+        unconfigured.setContext(context);
+        unconfigured.start();
+
+        assertFalse(unconfigured.isStarted());
+        assertEquals(FilterReply.NEUTRAL, unconfigured.decide(null, consumer, Level.INFO, "msg", null, null));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "mensaje {}", new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,76 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.api.ApiErrorFilter;
+import com.crediya.loan.usecase.shared.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respuesta de error de {@link ApiErrorFilter} escrita completa (filtro + serialización JSON del
+ * cuerpo) para un error de validación de dominio y para un error inesperado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiErrorFilterBenchmark {
+
+    private final ApiErrorFilter filter = new ApiErrorFilter();
+    private final HandlerStrategies strategies = HandlerStrategies.withDefaults();
+    private ServerResponse.Context context;
+
+    private final HandlerFunction<ServerResponse> validationError =
+            req -> Mono.error(new ValidationException("amount", "El monto debe estar entre 1 y 10"));
+    private final HandlerFunction<ServerResponse> unexpectedError =
+            req -> Mono.error(new IllegalStateException("boom"));
+
+    @Setup
+    public void setUp() {
+        context = new ServerResponse.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return strategies.messageWriters();
+            }
+
+            @Override
+            public List<ViewResolver> viewResolvers() {
+                return List.of();
+            }
+        };
+    }
+
+    @Benchmark
+    public Integer validationError() {
+        return render(validationError);
+    }
+
+    @Benchmark
+    public Integer unexpectedError() {
+        return render(unexpectedError);
+    }
+
+    private Integer render(HandlerFunction<ServerResponse> handler) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/solicitud"));
+        ServerRequest request = ServerRequest.create(exchange, strategies.messageReaders());
+        return filter.filter(request, handler)
+                .flatMap(response -> response.writeTo(exchange, context))
+                .then(Mono.fromSupplier(() -> exchange.getResponse().getStatusCode().value()))
+                .block();
+    }
+}
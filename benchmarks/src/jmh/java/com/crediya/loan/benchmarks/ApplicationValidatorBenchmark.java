@@ -0,0 +1,62 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.model.application.Application;
+import com.crediya.loan.usecase.generaterequest.generaterequest.ApplicationValidator;
+import com.crediya.loan.usecase.shared.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApplicationValidator#validateAndNormalize}: solicitud válida (la normalización es
+ * idempotente, así que se reutiliza la misma instancia) y solicitud rechazada por email,
+ * que incluye el costo de crear la {@link ValidationException}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApplicationValidatorBenchmark {
+
+    private Application valid;
+    private Application invalidEmail;
+
+    @Setup
+    public void setUp() {
+        valid = application(" Cliente.Uno@Mail.com ");
+        invalidEmail = application("cliente-sin-arroba");
+    }
+
+    private static Application application(String email) {
+        return Application.builder()
+                .amount(new BigDecimal("2500000.00"))
+                .term(LocalDate.now().plusYears(2))
+                .email(email)
+                .identityDocument("1032456789")
+                .loanTypeId(1L)
+                .build();
+    }
+
+    @Benchmark
+    public Application valid() {
+        ApplicationValidator.validateAndNormalize(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public String invalidEmail() {
+        try {
+            ApplicationValidator.validateAndNormalize(invalidEmail);
+            return null;
+        } catch (ValidationException e) {
+            return e.getField();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.model.application.Application;
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.model.states.States;
+import com.crediya.loan.r2dbc.entity.ApplicationEntity;
+import com.crediya.loan.r2dbc.entity.LoanTypeEntity;
+import com.crediya.loan.r2dbc.entity.StatesEntity;
+import com.crediya.loan.r2dbc.mapper.AplicationEntityMapper;
+import com.crediya.loan.r2dbc.mapper.LoanTypeEntityMapper;
+import com.crediya.loan.r2dbc.mapper.StatesEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo dominio ↔ entidad en los adapters R2DBC: los mappers MapStruct del módulo (los que usan hoy
+ * los adapters y {@code ReactiveAdapterOperations}) frente al {@link ObjectMapperImp} de
+ * reactive-commons, por reflexión, que usaban antes. Se mantiene como referencia de la diferencia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityMapperBenchmark {
+
+    private final AplicationEntityMapper applicationMapper = new AplicationEntityMapper() { };
+    private final LoanTypeEntityMapper loanTypeMapper = new LoanTypeEntityMapper() { };
+    private final StatesEntityMapper statesMapper = new StatesEntityMapper() { };
+    private final ObjectMapper objectMapper = new ObjectMapperImp();
+
+    private ApplicationEntity applicationEntity;
+    private Application application;
+    private LoanTypeEntity loanTypeEntity;
+    private StatesEntity statesEntity;
+
+    @Setup
+    public void setUp() {
+        applicationEntity = ApplicationEntity.builder()
+                .id(42L)
+                .amount(new BigDecimal("2500000.00"))
+                .term(LocalDate.of(2027, 1, 31))
+                .email("cliente@mail.com")
+                .identityDocument("1032456789")
+                .stateId(1L)
+                .loanTypeId(2L)
+                .build();
+        loanTypeEntity = LoanTypeEntity.builder()
+                .id(2L)
+                .name("Libre inversión")
+                .amountMin(new BigDecimal("1000000"))
+                .amountMax(new BigDecimal("15000000"))
+                .interestRate(new BigDecimal("1.5"))
+                .automaticValidation(true)
+                .build();
+        statesEntity = StatesEntity.builder()
+                .id(1L)
+                .name("Pendiente de revisión")
+                .description("Solicitud recibida")
+                .code("PEN")
+                .build();
+        application = applicationMapper.toDomain(applicationEntity);
+    }
+
+    @Benchmark
+    public Application applicationMapStruct() {
+        return applicationMapper.toDomain(applicationEntity);
+    }
+
+    @Benchmark
+    public Application applicationObjectMapper() {
+        return objectMapper.map(applicationEntity, Application.class);
+    }
+
+    @Benchmark
+    public LoanType loanTypeMapStruct() {
+        return loanTypeMapper.toDomain(loanTypeEntity);
+    }
+
+    @Benchmark
+    public LoanType loanTypeObjectMapper() {
+        return objectMapper.map(loanTypeEntity, LoanType.class);
+    }
+
+    @Benchmark
+    public States statesMapStruct() {
+        return statesMapper.toDomain(statesEntity);
+    }
+
+    @Benchmark
+    public States statesObjectMapper() {
+        return objectMapper.map(statesEntity, States.class);
+    }
+
+    /** Dirección dominio → entidad (camino de {@code save}). */
+    @Benchmark
+    public ApplicationEntity applicationToEntityMapStruct() {
+        return applicationMapper.toEntity(application);
+    }
+
+    @Benchmark
+    public ApplicationEntity applicationToEntityObjectMapper() {
+        return objectMapper.map(application, ApplicationEntity.class);
+    }
+}
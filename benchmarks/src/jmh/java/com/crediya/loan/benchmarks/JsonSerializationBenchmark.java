@@ -0,0 +1,148 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.api.ApiErrorResponse;
+import com.crediya.loan.api.dto.ApiResponse;
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.api.dto.ApplicationResponseDto;
+import com.crediya.loan.api.dto.PagedResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Costo de serializar a JSON cada tipo de respuesta de la API, como lo hace el encoder de WebFlux:
+ * <ul>
+ *   <li>{@code REFLECTION} / {@code BLACKBIRD}: ObjectMapper sin o con el módulo Blackbird.</li>
+ *   <li>{@code PER_RESPONSE}: un ObjectWriter por respuesta, como {@code Jackson2JsonEncoder};
+ *   {@code CACHED}: el writer construido al arrancar, como {@code CachedWriterJsonEncoder}.</li>
+ * </ul>
+ * {@code errorMap} arma y serializa el cuerpo de error como lo hacía {@code ApiErrorFilter} con un
+ * {@code LinkedHashMap}; {@code errorRecord} es el {@link ApiErrorResponse} tipado actual.
+ * <pre>./gradlew :benchmarks:jmh -PjmhIncludes=JsonSerialization</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    public enum Access { REFLECTION, BLACKBIRD }
+
+    public enum Writer { PER_RESPONSE, CACHED }
+
+    @Param({"REFLECTION", "BLACKBIRD"})
+    public Access access;
+
+    @Param({"PER_RESPONSE", "CACHED"})
+    public Writer writer;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private ObjectWriter pageWriter;
+    private ObjectWriter apiResponseWriter;
+    private ObjectWriter errorWriter;
+
+    private PagedResponseDto<ApplicationPaginedDto> page;
+    private ApiResponse<ApplicationResponseDto> created;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (access == Access.BLACKBIRD) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        pageWriter = mapper.writerFor(PagedResponseDto.class);
+        apiResponseWriter = mapper.writerFor(ApiResponse.class);
+        errorWriter = mapper.writerFor(ApiErrorResponse.class);
+
+        List<ApplicationPaginedDto> records = IntStream.range(0, pageSize)
+                .mapToObj(i -> new ApplicationPaginedDto(
+                        (long) i,
+                        new BigDecimal("2500000.00"),
+                        LocalDate.of(2027, 1, 31),
+                        "cliente" + i + "@mail.com",
+                        String.valueOf(10_000_000 + i),
+                        "Pendiente de revisión",
+                        "Libre inversión",
+                        1L,
+                        1L,
+                        "Cliente " + i,
+                        new BigDecimal("4200000")))
+                .toList();
+        page = new PagedResponseDto<>(1, pageSize, 12_345L, records, "MjA", true);
+
+        created = ApiResponse.<ApplicationResponseDto>builder()
+                .success(true)
+                .message("Solicitud creada correctamente")
+                .data(new ApplicationResponseDto(7L, new BigDecimal("2500000.00"), LocalDate.of(2027, 1, 31),
+                        "cliente@mail.com", "10000007", 1L, 1L))
+                .path("/api/v1/solicitud")
+                .timestamp(Instant.parse("2025-08-28T05:18:04Z"))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] pagedResponse() throws JsonProcessingException {
+        return write(pageWriter, PagedResponseDto.class, page);
+    }
+
+    @Benchmark
+    public byte[] apiResponse() throws JsonProcessingException {
+        return write(apiResponseWriter, ApiResponse.class, created);
+    }
+
+    @Benchmark
+    public byte[] errorRecord() throws JsonProcessingException {
+        ApiErrorResponse body = new ApiErrorResponse(
+                "2025-08-28T05:18:04Z", 400, "Bad Request", "Datos de entrada inválidos",
+                "/api/v1/solicitud", "POST", null,
+                List.of(new ApiErrorResponse.Violation("email", "must not be blank", "")));
+        return write(errorWriter, ApiErrorResponse.class, body);
+    }
+
+    @Benchmark
+    public byte[] errorMap() throws JsonProcessingException {
+        Map<String, Object> violation = new LinkedHashMap<>();
+        violation.put("field", "email");
+        violation.put("message", "must not be blank");
+        violation.put("rejected", "");
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", "2025-08-28T05:18:04Z");
+        body.put("status", 400);
+        body.put("error", "Bad Request");
+        body.put("message", "Datos de entrada inválidos");
+        body.put("path", "/api/v1/solicitud");
+        body.put("method", "POST");
+        body.putAll(Map.of("violations", List.of(violation)));
+        // un mapa no tiene writer propio: siempre se resuelve por respuesta
+        return mapper.writerFor(Map.class).writeValueAsBytes(body);
+    }
+
+    private byte[] write(ObjectWriter cached, Class<?> type, Object value) throws JsonProcessingException {
+        ObjectWriter w = writer == Writer.CACHED ? cached : mapper.writerFor(type);
+        return w.writeValueAsBytes(value);
+    }
+}
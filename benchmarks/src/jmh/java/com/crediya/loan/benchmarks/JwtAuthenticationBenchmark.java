@@ -0,0 +1,90 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.security.JwtProperties;
+import com.crediya.loan.security.JwtReactiveAuthenticationManager;
+import com.crediya.loan.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de CPU por request de {@link JwtReactiveAuthenticationManager#authenticate}:
+ * <ul>
+ *   <li>{@code parserPerRequest}: comportamiento anterior, un JwtParser nuevo por request</li>
+ *   <li>{@code prebuiltParser}: parser reutilizado, sin caché (verifica firma y claims siempre)</li>
+ *   <li>{@code cachedToken}: token ya verificado, se resuelve con el digest y el caché</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "QnE1T2lXbVRhV3RzR2VOUXlHaFZ2d2dyU2p2a1R2TnM=";
+
+    private SecretKey key;
+    private String token;
+    private Authentication request;
+    private JwtReactiveAuthenticationManager uncached;
+    private JwtReactiveAuthenticationManager cached;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .setClaims(Map.of("roles", List.of("ADMIN", "ASESOR")))
+                .setSubject("user-123")
+                .setIssuer("autenticacion-service")
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        request = new UsernamePasswordAuthenticationToken("ignored", token);
+
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setIssuer("autenticacion-service");
+        uncached = new JwtReactiveAuthenticationManager(props, null);
+        cached = new JwtReactiveAuthenticationManager(props, new VerifiedTokenCache(10_000, Duration.ofMinutes(5)));
+        cached.authenticate(request).block();
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(30)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Authentication prebuiltParser() {
+        return uncached.authenticate(request).block();
+    }
+
+    @Benchmark
+    public Authentication cachedToken() {
+        return cached.authenticate(request).block();
+    }
+}
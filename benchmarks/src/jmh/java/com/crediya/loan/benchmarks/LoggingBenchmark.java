@@ -0,0 +1,140 @@
+package com.crediya.loan.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.crediya.loan.model.application.ApplicationPagined;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Tiempo que pasa el hilo que loguea (el event loop en el servicio) al registrar una página del
+ * listado de solicitudes, como lo hace {@code AplicationReactiveRepositoryAdapter}:
+ * <ul>
+ *   <li>{@code PER_ROW_INFO}: como antes, un resumen y una línea INFO por fila.</li>
+ *   <li>{@code DEBUG_ROWS}: como ahora, el detalle por fila en DEBUG tras un guard, con el logger en INFO.</li>
+ * </ul>
+ * Cada estilo se mide con el appender de archivo síncrono y envuelto en un {@link AsyncAppender}
+ * con {@code neverBlock}, igual que en {@code logback-spring.xml}. Con ASYNC y carga sostenida la cola
+ * se llena y parte de los eventos INFO se descartan: la cifra es el costo de encolar o descartar.
+ * <pre>./gradlew :benchmarks:jmh -PjmhIncludes=Logging</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingBenchmark {
+
+    public enum AppenderMode { SYNC, ASYNC }
+
+    public enum Style { PER_ROW_INFO, DEBUG_ROWS }
+
+    @Param({"SYNC", "ASYNC"})
+    public AppenderMode appender;
+
+    @Param({"PER_ROW_INFO", "DEBUG_ROWS"})
+    public Style style;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private LoggerContext context;
+    private Logger log;
+    private Path file;
+    private List<ApplicationPagined> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        // mismo patrón de archivo que Spring Boot (FILE_LOG_PATTERN), sin colores
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> target = fileAppender;
+        if (appender == AppenderMode.ASYNC) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            target = async;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(target);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        log = context.getLogger("com.crediya.loan.r2dbc.aplication.AplicationReactiveRepositoryAdapter");
+
+        page = IntStream.range(0, pageSize)
+                .mapToObj(i -> ApplicationPagined.builder()
+                        .id((long) i)
+                        .amount(new BigDecimal("2500000.00"))
+                        .term(LocalDate.of(2027, 1, 31))
+                        .email("cliente" + i + "@mail.com")
+                        .identityDocument(String.valueOf(10_000_000 + i))
+                        .state("Pendiente de revisión")
+                        .loan("Libre inversión")
+                        .stateId(1L)
+                        .loanTypeId(1L)
+                        .fullName("Cliente " + i)
+                        .baseSalary(new BigDecimal("4200000"))
+                        .build())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int logPage() {
+        List<ApplicationPagined> list = page;
+        switch (style) {
+            case PER_ROW_INFO -> {
+                log.info("[findApplicationsPaginated] Se obtuvieron {} registros de la base de datos", list.size());
+                list.forEach(app -> log.info("➡ Registro completo: {}", app));
+            }
+            case DEBUG_ROWS -> {
+                log.debug("[findApplicationsPaginated] Se obtuvieron {} registros de la base de datos", list.size());
+                if (log.isDebugEnabled()) {
+                    list.forEach(app -> log.debug("➡ Registro completo: {}", app));
+                }
+            }
+        }
+        return list.size();
+    }
+}
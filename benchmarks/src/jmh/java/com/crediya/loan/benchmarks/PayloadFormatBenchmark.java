@@ -0,0 +1,93 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.api.dto.PagedResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU de serializar una página de 500 solicitudes ({@link PagedResponseDto}) en JSON, Smile y CBOR,
+ * con y sin gzip (nivel por defecto, el mismo que usa Reactor Netty con {@code server.compression}).
+ * Los mappers binarios se copian del de JSON, como en {@code BinaryCodecsConfig}.
+ * Los bytes que saldrían por la red se imprimen una vez por combinación al preparar el estado.
+ * <pre>./gradlew :benchmarks:jmh -PjmhIncludes=PayloadFormat</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    public enum Format { JSON, SMILE, CBOR }
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public Format format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"500"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private PagedResponseDto<ApplicationPaginedDto> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = switch (format) {
+            case JSON -> json;
+            case SMILE -> json.copyWith(new SmileFactory());
+            case CBOR -> json.copyWith(new CBORFactory());
+        };
+
+        List<ApplicationPaginedDto> records = IntStream.range(0, rows)
+                .mapToObj(i -> new ApplicationPaginedDto(
+                        (long) i,
+                        new BigDecimal("2500000.00"),
+                        LocalDate.of(2027, 1, 31),
+                        "cliente" + i + "@mail.com",
+                        String.valueOf(10_000_000 + i),
+                        "Pendiente de revisión",
+                        "Libre inversión",
+                        1L,
+                        1L,
+                        "Cliente " + i,
+                        new BigDecimal("4200000")))
+                .toList();
+        page = new PagedResponseDto<>(1, rows, 12_345L, records, "MTIzNDU", true);
+
+        System.out.printf("[PayloadFormatBenchmark] %s gzip=%s: %d bytes%n", format, gzip, serialize().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            mapper.writeValue(out, page);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,101 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.user.User;
+import com.crediya.loan.model.user.UserCredentials;
+import com.crediya.loan.model.user.UserIndex;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import com.crediya.loan.usecase.getpendingapplications.ApplicationUserEnricher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Enriquecimiento de una página del listado de pendientes con un directorio de 1k y 100k usuarios.
+ * El gateway responde desde un {@link UserIndex} en memoria, sin latencia de red, así que se mide
+ * solo el trabajo en CPU del caso de uso. {@code indexDirectory} mide lo que cuesta indexar el directorio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PendingEnrichmentBenchmark {
+
+    @Param({"1000", "100000"})
+    public int users;
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private List<User> directory;
+    private List<ApplicationPagined> page;
+    private UserManagementGateway gateway;
+
+    @Setup
+    public void setUp() {
+        directory = IntStream.range(0, users)
+                .mapToObj(i -> User.builder()
+                        .identityDocument(String.valueOf(10_000_000 + i))
+                        .firstName("Nombre" + i)
+                        .lastName("Apellido" + i)
+                        .baseSalary(BigDecimal.valueOf(1_000_000L + i))
+                        .build())
+                .toList();
+        // documentos repartidos por todo el directorio
+        int step = Math.max(1, users / pageSize);
+        page = IntStream.range(0, pageSize)
+                .mapToObj(i -> ApplicationPagined.builder()
+                        .id((long) i)
+                        .identityDocument(String.valueOf(10_000_000 + (i * step) % users))
+                        .email("cliente" + i + "@mail.com")
+                        .build())
+                .toList();
+        gateway = new InMemoryGateway(UserIndex.of(directory));
+    }
+
+    @Benchmark
+    public List<ApplicationPagined> enrichPage() {
+        return ApplicationUserEnricher.enrich(page, gateway).block();
+    }
+
+    @Benchmark
+    public UserIndex indexDirectory() {
+        return UserIndex.of(directory);
+    }
+
+    private record InMemoryGateway(UserIndex index) implements UserManagementGateway {
+
+        @Override
+        public Flux<User> loadUsers() {
+            return Flux.fromIterable(index.users());
+        }
+
+        @Override
+        public Mono<Boolean> verify(String documentNumber, String email) {
+            return Mono.just(index.find(documentNumber).isPresent());
+        }
+
+        @Override
+        public Flux<User> findUsersByDocuments(Set<String> documents) {
+            return Flux.fromStream(documents.stream().map(index::find).flatMap(Optional::stream));
+        }
+
+        @Override
+        public Mono<Set<UserCredentials>> verifyAll(Set<UserCredentials> credentials) {
+            return Mono.just(credentials);
+        }
+    }
+}
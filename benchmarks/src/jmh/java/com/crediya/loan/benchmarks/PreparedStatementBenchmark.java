@@ -0,0 +1,177 @@
+package com.crediya.loan.benchmarks;
+
+import com.crediya.loan.model.application.CountMode;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.r2dbc.aplication.ApplicationQueryCompiler;
+import com.crediya.loan.r2dbc.aplication.ApplicationQueryCompiler.CompiledQuery;
+import com.crediya.loan.r2dbc.config.MySQLConnectionPool;
+import com.crediya.loan.r2dbc.config.MysqlConnectionProperties;
+import io.asyncer.r2dbc.mysql.MySqlConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Consulta de la página y conteo del listado de solicitudes contra MySQL real, con protocolo de
+ * texto (CLIENT) frente a sentencias preparadas en el servidor (SERVER), sobre una tabla de
+ * {@code rows} solicitudes. Necesita un MySQL accesible; la base se indica con
+ * {@code -Dbench.mysql.host/port/database/username/password} (por defecto localhost:3306,
+ * crediya_loan_bench, root/rootpassword). La primera corrida crea las tablas y siembra los datos.
+ * <pre>./gradlew :benchmarks:jmh -PjmhIncludes=PreparedStatement</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreparedStatementBenchmark {
+
+    private static final int INSERT_BATCH = 1_000;
+
+    @Param({"CLIENT", "SERVER"})
+    public MysqlConnectionProperties.PrepareMode mode;
+
+    @Param({"200000"})
+    public int rows;
+
+    private ConnectionPool pool;
+    private DatabaseClient db;
+    private CompiledQuery pageQuery;
+    private CompiledQuery countQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MysqlConnectionProperties properties = new MysqlConnectionProperties(
+                System.getProperty("bench.mysql.host", "localhost"),
+                Integer.getInteger("bench.mysql.port", 3306),
+                System.getProperty("bench.mysql.database", "crediya_loan_bench"),
+                System.getProperty("bench.mysql.username", "root"),
+                System.getProperty("bench.mysql.password", "rootpassword"),
+                MysqlConnectionProperties.Pool.defaults(),
+                new MysqlConnectionProperties.PreparedStatements(mode, 256));
+        // Misma configuración de conexión que la aplicación, variando solo el modo de preparación
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(
+                        MySqlConnectionFactory.from(new MySQLConnectionPool().getConnectionConfig(properties)))
+                .initialSize(1)
+                .maxSize(1)
+                .build());
+        db = DatabaseClient.create(pool);
+        seed();
+
+        // Filtros típicos del listado: estado pendiente y rango de montos, página 5 de 20
+        PendingApplicationsCriteria criteria = PendingApplicationsCriteria.builder()
+                .state("Pendiente de revisión")
+                .minAmount(new BigDecimal("1000000"))
+                .maxAmount(new BigDecimal("20000000"))
+                .page(5)
+                .size(20)
+                .countMode(CountMode.EXACT)
+                .build();
+        ApplicationQueryCompiler compiler = new ApplicationQueryCompiler();
+        pageQuery = compiler.compileData(criteria, criteria.size());
+        countQuery = compiler.compileCount(criteria);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.dispose();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> pageQuery() {
+        return bind(pageQuery).fetch().all().collectList().block();
+    }
+
+    @Benchmark
+    public Long countQuery() {
+        return bind(countQuery).map((row, metadata) -> row.get(0, Long.class)).one().block();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bind(CompiledQuery query) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(query.sql());
+        for (Map.Entry<String, Object> param : query.params().entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    /** Crea el esquema (igual al de db/changelog) y completa la tabla hasta {@code rows} solicitudes. */
+    private void seed() {
+        Flux.just("""
+                        CREATE TABLE IF NOT EXISTS tipo_prestamo (
+                            id_tipo_prestamo BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            nombre VARCHAR(255) NOT NULL,
+                            monto_minimo DECIMAL(19,2) NOT NULL,
+                            monto_maximo DECIMAL(19,2) NOT NULL,
+                            tasa_interes DECIMAL(5,2) NOT NULL,
+                            validacion_automatica BOOLEAN NOT NULL
+                        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4""", """
+                        CREATE TABLE IF NOT EXISTS estados (
+                            id_estado BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            nombre VARCHAR(255) NOT NULL,
+                            descripcion VARCHAR(255),
+                            codigo VARCHAR(100) NOT NULL UNIQUE,
+                            INDEX idx_estados_nombre (nombre)
+                        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4""", """
+                        CREATE TABLE IF NOT EXISTS solicitud (
+                            id_solicitud BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            monto DECIMAL(19,2) NOT NULL,
+                            plazo DATE NOT NULL,
+                            email VARCHAR(255) NOT NULL,
+                            documento_identidad VARCHAR(50) NOT NULL,
+                            id_estado BIGINT NOT NULL,
+                            id_tipo_prestamo BIGINT NOT NULL,
+                            INDEX idx_solicitud_estado (id_estado),
+                            INDEX idx_solicitud_tipo_prestamo (id_tipo_prestamo),
+                            INDEX idx_solicitud_documento (documento_identidad),
+                            INDEX idx_solicitud_monto (monto),
+                            INDEX idx_solicitud_plazo (plazo),
+                            INDEX idx_solicitud_email (email)
+                        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4""", """
+                        INSERT IGNORE INTO estados (id_estado, nombre, descripcion, codigo) VALUES
+                            (1, 'Pendiente de revisión', 'Solicitud recibida', 'PEN'),
+                            (2, 'Aprobada', 'Solicitud aprobada', 'APR'),
+                            (3, 'Rechazada', 'Solicitud rechazada', 'REC')""", """
+                        INSERT IGNORE INTO tipo_prestamo (id_tipo_prestamo, nombre, monto_minimo, monto_maximo,
+                                                          tasa_interes, validacion_automatica) VALUES
+                            (1, 'Libre inversión', 1000000, 50000000, 1.50, TRUE),
+                            (2, 'Vehículo', 5000000, 150000000, 1.20, FALSE)""")
+                .concatMap(sql -> db.sql(sql).then())
+                .blockLast();
+
+        long existing = db.sql("SELECT COUNT(*) FROM solicitud")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .blockOptional()
+                .orElse(0L);
+        LocalDate term = LocalDate.now().plusYears(1);
+        Flux.range((int) existing, (int) Math.max(0, rows - existing))
+                .buffer(INSERT_BATCH)
+                .concatMap(batch -> db.sql("INSERT INTO solicitud (monto, plazo, email, documento_identidad, id_estado, id_tipo_prestamo) VALUES "
+                                + batch.stream().map(i -> row(i, term)).collect(Collectors.joining(",")))
+                        .then())
+                .blockLast();
+    }
+
+    private static String row(int i, LocalDate term) {
+        return String.format("(%d, '%s', 'cliente%d@mail.com', '%d', %d, %d)",
+                1_000_000 + (i % 500) * 50_000, term.plusDays(i % 365), i % 50_000, 10_000_000 + i % 50_000,
+                i % 3 + 1, i % 2 + 1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.crediya.loan.model.application;
+
+/**
+ * Resultado de una solicitud dentro de un envío por lote.
+ *
+ * @param index       posición de la solicitud en el lote recibido (0-based)
+ * @param application solicitud guardada (con id); null si fue rechazada
+ * @param field       campo que causó el rechazo, si aplica
+ * @param message     motivo del rechazo; null si fue creada
+ */
+public record BatchItemResult(int index, Application application, String field, String message) {
+
+    public static BatchItemResult created(int index, Application application) {
+        return new BatchItemResult(index, application, null, null);
+    }
+
+    public static BatchItemResult rejected(int index, String field, String message) {
+        return new BatchItemResult(index, null, field, message);
+    }
+
+    public boolean isCreated() {
+        return application != null;
+    }
+}
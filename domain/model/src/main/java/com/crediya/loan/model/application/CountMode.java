@@ -0,0 +1,18 @@
+package com.crediya.loan.model.application;
+
+/**
+ * Estrategia para calcular el total del listado paginado.
+ * <ul>
+ *     <li>{@link #EXACT}: ejecuta el COUNT en cada consulta.</li>
+ *     <li>{@link #CACHED}: reutiliza el último COUNT de los mismos filtros durante un TTL corto.</li>
+ *     <li>{@link #NONE}: no cuenta; solo informa si hay página siguiente (se lee size + 1).</li>
+ * </ul>
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE;
+
+    /** Por defecto no se paga un COUNT completo en cada cambio de página. */
+    public static final CountMode DEFAULT = CACHED;
+}
@@ -0,0 +1,19 @@
+package com.crediya.loan.model.application;
+
+/**
+ * Forma de comparar el filtro de email del listado.
+ * <ul>
+ *     <li>{@link #EXACT}: igualdad; usa el índice sobre solicitud.email.</li>
+ *     <li>{@link #PREFIX}: el email empieza por el texto; usa el mismo índice (rango).</li>
+ *     <li>{@link #FULLTEXT}: búsqueda por fragmentos sobre el índice FULLTEXT (parser ngram).</li>
+ *     <li>{@link #CONTAINS}: {@code LIKE '%texto%'}; recorre toda la tabla, solo para casos puntuales.</li>
+ * </ul>
+ */
+public enum EmailMatchMode {
+    EXACT,
+    PREFIX,
+    FULLTEXT,
+    CONTAINS;
+
+    public static final EmailMatchMode DEFAULT = PREFIX;
+}
@@ -1,10 +1,56 @@
 package com.crediya.loan.model.application;
 
+import lombok.Builder;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Criterios del listado paginado. Si {@code cursor} viene informado se usa paginación por
+ * llave (id_solicitud &lt; cursor) y {@code page} solo se devuelve como referencia.
+ * {@code countMode} define cómo se obtiene el total (ver {@link CountMode}) y {@code emailMatch}
+ * cómo se compara el email (ver {@link EmailMatchMode}).
+ * Los filtros nulos o vacíos no se aplican.
+ */
+@Builder(toBuilder = true)
 public record PendingApplicationsCriteria(
         String state,
         String document,
         String email,
         int page,
-        int size
-) {}
\ No newline at end of file
+        int size,
+        Long cursor,
+        CountMode countMode,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        LocalDate termFrom,
+        LocalDate termTo,
+        Set<Long> loanTypeIds,
+        Set<String> stateCodes,
+        EmailMatchMode emailMatch
+) {
+    public PendingApplicationsCriteria {
+        if (countMode == null) countMode = CountMode.DEFAULT;
+        if (emailMatch == null) emailMatch = EmailMatchMode.DEFAULT;
+        loanTypeIds = loanTypeIds == null ? Set.of() : Set.copyOf(loanTypeIds);
+        stateCodes = stateCodes == null ? Set.of() : Set.copyOf(stateCodes);
+    }
+
+    public PendingApplicationsCriteria(String state, String document, String email, int page, int size) {
+        this(state, document, email, page, size, null, null);
+    }
+
+    public PendingApplicationsCriteria(String state, String document, String email, int page, int size, Long cursor) {
+        this(state, document, email, page, size, cursor, null);
+    }
+
+    public PendingApplicationsCriteria(String state, String document, String email, int page, int size,
+                                       Long cursor, CountMode countMode) {
+        this(state, document, email, page, size, cursor, countMode, null, null, null, null, null, null, null);
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+}
@@ -4,10 +4,25 @@ import com.crediya.loan.model.application.Application;
 import com.crediya.loan.model.application.ApplicationPagined;
 import com.crediya.loan.model.application.PendingApplicationsCriteria;
 import com.crediya.loan.model.shared.Page;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ApplicationRepository {
 
     Mono<Application> save(Application application);
+
+    /**
+     * Guarda varias solicitudes en una sola operación (todas o ninguna) y las devuelve con su id,
+     * en el mismo orden recibido.
+     */
+    Flux<Application> saveAll(List<Application> applications);
     Mono<Page<ApplicationPagined>> findApplicationsPaginated(PendingApplicationsCriteria criteria);
+
+    /**
+     * Emite todas las solicitudes que cumplen los filtros (sin paginar), en orden de id descendente,
+     * respetando la demanda del suscriptor; no acumula el resultado en memoria.
+     */
+    Flux<ApplicationPagined> streamApplications(PendingApplicationsCriteria criteria);
 }
@@ -4,8 +4,13 @@ import com.crediya.loan.model.loantype.LoanType;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 public interface LoanTypeRepository {
 
     Mono<LoanType> findById(Long loanTypeId);
 
+    /** Busca varios tipos de préstamo en una sola consulta; los ids inexistentes se omiten. */
+    Flux<LoanType> findAllByIds(Set<Long> loanTypeIds);
+
 }
@@ -2,18 +2,29 @@ package com.crediya.loan.model.shared;
 
 import java.util.List;
 
-
-import java.util.List;
-
+/**
+ * @param totalElements total de registros; null si no se calculó (conteo {@code NONE})
+ * @param totalPages    total de páginas; null si no se conoce el total
+ * @param hasNext       true si existe al menos un registro después de esta página
+ * @param nextCursor    id del último elemento de la página cuando hay más registros;
+ *                      null si es la última página
+ */
 public record Page<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext,
+        Long nextCursor
 ) {
     public static <T> Page<T> of(List<T> content, int page, int size, long totalElements) {
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        return new Page<>(content, page, size, totalElements, totalPages);
+        return of(content, page, size, totalElements, (long) page * size < totalElements, null);
+    }
+
+    public static <T> Page<T> of(List<T> content, int page, int size, Long totalElements,
+                                 boolean hasNext, Long nextCursor) {
+        Integer totalPages = totalElements == null ? null : (int) Math.ceil((double) totalElements / size);
+        return new Page<>(content, page, size, totalElements, totalPages, hasNext, nextCursor);
     }
 }
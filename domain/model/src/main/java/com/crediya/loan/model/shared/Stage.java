@@ -0,0 +1,27 @@
+package com.crediya.loan.model.shared;
+
+/**
+ * Etapas medidas de una petición. {@link #id()} es el nombre que se publica en la métrica
+ * (tag {@code stage}) y en la cabecera {@code Server-Timing}.
+ */
+public enum Stage {
+    VALIDATION("validation"),
+    USER_VERIFY("user-verify"),
+    LOAN_TYPE_LOOKUP("loan-type-lookup"),
+    STATE_LOOKUP("state-lookup"),
+    SAVE("save"),
+    USER_LOAD("user-load"),
+    ENRICHMENT("enrichment"),
+    PAGE_QUERY("page-query"),
+    COUNT_QUERY("count-query");
+
+    private final String id;
+
+    Stage(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+}
@@ -0,0 +1,29 @@
+package com.crediya.loan.model.shared.gateways;
+
+import com.crediya.loan.model.shared.Stage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mide cuánto tarda cada etapa de una petición, desde la suscripción hasta la señal final,
+ * y registra el resultado (éxito, error o cancelación).
+ */
+public interface StageTimer {
+
+    /** No mide nada; para pruebas y contextos sin métricas. */
+    StageTimer NOOP = new StageTimer() {
+        @Override
+        public <T> Mono<T> time(Stage stage, Mono<T> source) {
+            return source;
+        }
+
+        @Override
+        public <T> Flux<T> time(Stage stage, Flux<T> source) {
+            return source;
+        }
+    };
+
+    <T> Mono<T> time(Stage stage, Mono<T> source);
+
+    <T> Flux<T> time(Stage stage, Flux<T> source);
+}
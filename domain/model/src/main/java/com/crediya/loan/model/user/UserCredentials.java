@@ -0,0 +1,15 @@
+package com.crediya.loan.model.user;
+
+import java.util.Locale;
+
+/**
+ * Par documento/email que se verifica contra el servicio de usuarios.
+ * Se normaliza (trim y email en minúsculas) para que dos solicitudes del mismo usuario coincidan.
+ */
+public record UserCredentials(String document, String email) {
+
+    public UserCredentials {
+        document = document == null ? null : document.trim();
+        email = email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
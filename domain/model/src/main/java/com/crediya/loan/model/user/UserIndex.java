@@ -0,0 +1,65 @@
+package com.crediya.loan.model.user;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Índice inmutable de usuarios por documento de identidad normalizado.
+ * Nunca se modifica: para actualizarlo se construye uno nuevo (copy-on-write) y se
+ * reemplaza la referencia, por lo que puede leerse desde varios hilos sin sincronización.
+ */
+public final class UserIndex {
+
+    private static final UserIndex EMPTY = new UserIndex(Map.of(), List.of());
+
+    private final Map<String, User> byDocument;
+    private final List<User> users;
+
+    private UserIndex(Map<String, User> byDocument, List<User> users) {
+        this.byDocument = byDocument;
+        this.users = users;
+    }
+
+    public static UserIndex empty() {
+        return EMPTY;
+    }
+
+    /** Construye el índice; ante documentos repetidos conserva el primer usuario. */
+    public static UserIndex of(Collection<User> users) {
+        if (users == null || users.isEmpty()) return EMPTY;
+
+        Map<String, User> map = HashMap.newHashMap(users.size());
+        for (User u : users) {
+            String key = normalize(u.getIdentityDocument());
+            if (key != null) map.putIfAbsent(key, u);
+        }
+        return new UserIndex(Map.copyOf(map), List.copyOf(users));
+    }
+
+    public Optional<User> find(String document) {
+        String key = normalize(document);
+        return key == null ? Optional.empty() : Optional.ofNullable(byDocument.get(key));
+    }
+
+    public List<User> users() {
+        return users;
+    }
+
+    public int size() {
+        return byDocument.size();
+    }
+
+    public boolean isEmpty() {
+        return byDocument.isEmpty();
+    }
+
+    /** Normaliza un documento para usarlo como clave (recorta espacios; vacío se trata como ausente). */
+    public static String normalize(String document) {
+        if (document == null) return null;
+        String trimmed = document.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
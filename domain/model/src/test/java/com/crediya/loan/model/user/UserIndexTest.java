@@ -0,0 +1,65 @@
+package com.crediya.loan.model.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserIndexTest {
+
+    private static User user(String doc, String name) {
+        return User.builder().identityDocument(doc).firstName(name).build();
+    }
+
+    @Test
+    @DisplayName("find debe normalizar espacios en ambos lados")
+    void find_normalizesDocuments() {
+        UserIndex index = UserIndex.of(List.of(user(" 123 ", "Ana"), user("456", "Luis")));
+
+        assertEquals("Ana", index.find("123").orElseThrow().getFirstName());
+        assertEquals("Luis", index.find(" 456\t").orElseThrow().getFirstName());
+        assertTrue(index.find("999").isEmpty());
+        assertTrue(index.find(null).isEmpty());
+        assertTrue(index.find("  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ante documentos repetidos se conserva el primero")
+    void of_keepsFirstUserForDuplicatedDocument() {
+        UserIndex index = UserIndex.of(List.of(user("123", "Primero"), user("123", "Segundo")));
+
+        assertEquals(1, index.size());
+        assertEquals("Primero", index.find("123").orElseThrow().getFirstName());
+    }
+
+    @Test
+    @DisplayName("Usuarios sin documento no se indexan")
+    void of_skipsUsersWithoutDocument() {
+        UserIndex index = UserIndex.of(List.of(user(null, "Sin doc"), user("", "Vacío")));
+
+        assertTrue(index.isEmpty());
+        assertEquals(2, index.users().size());
+    }
+
+    @Test
+    @DisplayName("El índice no cambia si la colección de origen se modifica")
+    void of_isImmutableSnapshot() {
+        List<User> source = new ArrayList<>(List.of(user("123", "Ana")));
+        UserIndex index = UserIndex.of(source);
+
+        source.clear();
+
+        assertEquals(1, index.size());
+        assertThrows(UnsupportedOperationException.class, () -> index.users().add(user("1", "x")));
+    }
+
+    @Test
+    @DisplayName("empty/of(null) devuelven el índice vacío")
+    void empty_andNull() {
+        assertSame(UserIndex.empty(), UserIndex.of(null));
+        assertSame(UserIndex.empty(), UserIndex.of(List.of()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.crediya.loan.usecase.exportapplications;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.model.application.gateways.ApplicationRepository;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import com.crediya.loan.usecase.getpendingapplications.ApplicationUserEnricher;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.util.logging.Logger;
+
+/**
+ * Exporta las solicitudes que cumplen los filtros como un flujo continuo. Los datos del solicitante
+ * se completan por lotes de {@link #ENRICH_BATCH_SIZE}: en memoria solo hay un lote a la vez y
+ * {@code concatMap} conserva el orden y la contrapresión hacia la base de datos.
+ */
+@RequiredArgsConstructor
+public class ExportApplicationsUseCase {
+
+    static final int ENRICH_BATCH_SIZE = 200;
+
+    private static final Logger LOG = Logger.getLogger(ExportApplicationsUseCase.class.getName());
+    private final ApplicationRepository repo;
+    private final UserManagementGateway gateway;
+
+    public Flux<ApplicationPagined> execute(PendingApplicationsCriteria criteria) {
+        return repo.streamApplications(criteria)
+                .buffer(ENRICH_BATCH_SIZE)
+                // prefetch 1: no se adelantan lotes más allá de lo que pide el cliente
+                .concatMap(batch -> ApplicationUserEnricher.enrich(batch, gateway), 1)
+                .concatMapIterable(batch -> batch, 1)
+                .doOnComplete(() -> LOG.info(() -> "[exportApplications] Exportación completada para " + criteria));
+    }
+}
@@ -0,0 +1,154 @@
+package com.crediya.loan.usecase.generaterequest;
+
+import com.crediya.loan.model.application.Application;
+import com.crediya.loan.model.application.BatchItemResult;
+import com.crediya.loan.model.application.gateways.ApplicationRepository;
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.model.loantype.gateways.LoanTypeRepository;
+import com.crediya.loan.model.states.States;
+import com.crediya.loan.model.states.gateways.StatesRepository;
+import com.crediya.loan.model.user.UserCredentials;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import com.crediya.loan.usecase.generaterequest.generaterequest.ApplicationValidator;
+import com.crediya.loan.usecase.generaterequest.generaterequest.LoanTypeValidator;
+import com.crediya.loan.usecase.shared.ConfigurationException;
+import com.crediya.loan.usecase.shared.Messages;
+import com.crediya.loan.usecase.shared.ValidationException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Registra varias solicitudes con un número fijo de viajes sin importar el tamaño del lote:
+ * validación en memoria, una verificación de usuarios por lote, una consulta de tipos de préstamo,
+ * una del estado inicial y una inserción por lote. Cada solicitud obtiene su propio resultado.
+ */
+@RequiredArgsConstructor
+public class GenerateBatchRequestUseCase {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final Logger LOG = Logger.getLogger(GenerateBatchRequestUseCase.class.getName());
+    private static final String DEFAULT_STATE_CODE = "PEN"; // Pendiente de revisión
+
+    private final ApplicationRepository applicationRepository;
+    private final StatesRepository statesRepository;
+    private final LoanTypeRepository loanTypeRepository;
+    private final UserManagementGateway userManagementGateway;
+
+    public Mono<List<BatchItemResult>> execute(List<Application> applications) {
+        return Mono.defer(() -> {
+            if (applications == null || applications.isEmpty()) {
+                return Mono.error(new ValidationException("applications", Messages.BATCH_EMPTY));
+            }
+            if (applications.size() > MAX_BATCH_SIZE) {
+                return Mono.error(new ValidationException("applications", Messages.batchTooLarge(MAX_BATCH_SIZE)));
+            }
+
+            List<BatchItemResult> results = new ArrayList<>();
+            List<Candidate> candidates = validateInMemory(applications, results);
+            if (candidates.isEmpty()) {
+                return Mono.just(results);
+            }
+
+            return Mono.zip(verifyUsers(candidates), loadLoanTypes(candidates), initialState())
+                    .flatMap(ctx -> {
+                        List<Candidate> accepted = candidates.stream()
+                                .filter(c -> accept(c, ctx.getT1(), ctx.getT2(), results))
+                                .toList();
+                        accepted.forEach(c -> c.app().setStateId(ctx.getT3().getId()));
+                        return persist(accepted, results);
+                    })
+                    .doOnSuccess(list -> LOG.info(() -> "Lote procesado: " + applications.size() + " solicitudes, "
+                            + list.stream().filter(BatchItemResult::isCreated).count() + " creadas"));
+        });
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private List<Candidate> validateInMemory(List<Application> applications, List<BatchItemResult> results) {
+        List<Candidate> candidates = new ArrayList<>(applications.size());
+        for (int i = 0; i < applications.size(); i++) {
+            Application app = applications.get(i);
+            try {
+                ApplicationValidator.validateAndNormalize(app);
+                candidates.add(new Candidate(i, app));
+            } catch (ValidationException e) {
+                results.add(BatchItemResult.rejected(i, e.getField(), e.getMessage()));
+            }
+        }
+        return candidates;
+    }
+
+    private Mono<Set<UserCredentials>> verifyUsers(List<Candidate> candidates) {
+        Set<UserCredentials> credentials = candidates.stream()
+                .map(Candidate::credentials)
+                .collect(Collectors.toSet());
+        return userManagementGateway.verifyAll(credentials);
+    }
+
+    private Mono<Map<Long, LoanType>> loadLoanTypes(List<Candidate> candidates) {
+        Set<Long> ids = candidates.stream()
+                .map(c -> c.app().getLoanTypeId())
+                .collect(Collectors.toSet());
+        return loanTypeRepository.findAllByIds(ids).collectMap(LoanType::getId);
+    }
+
+    private Mono<States> initialState() {
+        return statesRepository.findByCode(DEFAULT_STATE_CODE)
+                .switchIfEmpty(Mono.error(
+                        new ConfigurationException(Messages.stateNotFound(DEFAULT_STATE_CODE))
+                ));
+    }
+
+    /** Aplica las mismas reglas que la creación individual; si falla alguna registra el rechazo. */
+    private boolean accept(Candidate c, Set<UserCredentials> verified, Map<Long, LoanType> loanTypes,
+                           List<BatchItemResult> results) {
+        if (!verified.contains(c.credentials())) {
+            results.add(BatchItemResult.rejected(c.index(), "User", Messages.USER_INVALID));
+            return false;
+        }
+        LoanType loanType = loanTypes.get(c.app().getLoanTypeId());
+        if (loanType == null) {
+            results.add(BatchItemResult.rejected(c.index(), "loanTypeId", Messages.LOAN_TYPE_NO_EXIST.trim()));
+            return false;
+        }
+        if (!LoanTypeValidator.isAmountAllowed(c.app(), loanType)) {
+            results.add(BatchItemResult.rejected(c.index(), "amount",
+                    Messages.amountNotAllowed(loanType.getAmountMin(), loanType.getAmountMax())));
+            return false;
+        }
+        return true;
+    }
+
+    private Mono<List<BatchItemResult>> persist(List<Candidate> accepted, List<BatchItemResult> results) {
+        if (accepted.isEmpty()) {
+            return Mono.just(sorted(results));
+        }
+        return applicationRepository.saveAll(accepted.stream().map(Candidate::app).toList())
+                .index()
+                .map(saved -> BatchItemResult.created(accepted.get(saved.getT1().intValue()).index(), saved.getT2()))
+                .collectList()
+                .map(created -> {
+                    results.addAll(created);
+                    return sorted(results);
+                });
+    }
+
+    private static List<BatchItemResult> sorted(List<BatchItemResult> results) {
+        return results.stream().sorted(Comparator.comparingInt(BatchItemResult::index)).toList();
+    }
+
+    private record Candidate(int index, Application app) {
+        UserCredentials credentials() {
+            return new UserCredentials(app.getIdentityDocument(), app.getEmail());
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.crediya.loan.usecase.generaterequest;
 import com.crediya.loan.model.application.Application;
 import com.crediya.loan.model.application.gateways.ApplicationRepository;
 import com.crediya.loan.model.loantype.gateways.LoanTypeRepository;
+import com.crediya.loan.model.shared.Stage;
+import com.crediya.loan.model.shared.gateways.StageTimer;
+import com.crediya.loan.model.states.States;
 import com.crediya.loan.model.states.gateways.StatesRepository;
 import com.crediya.loan.usecase.generaterequest.generaterequest.ApplicationValidator;
 import com.crediya.loan.usecase.generaterequest.generaterequest.LoanTypeValidator;
@@ -10,8 +13,10 @@ import com.crediya.loan.usecase.generaterequest.generaterequest.VerifyUserUseCas
 import com.crediya.loan.usecase.shared.ConfigurationException;
 import com.crediya.loan.usecase.shared.Messages;
 import lombok.RequiredArgsConstructor;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
+import java.util.Comparator;
 import java.util.logging.Logger;
 
 @RequiredArgsConstructor
@@ -24,49 +29,92 @@ public class GenerateRequestUseCase {
     private final StatesRepository statesRepository;
     private final LoanTypeRepository loanTypeRepository;
     private final VerifyUserUseCase verifyUserUseCase;
+    private final StageTimer stageTimer;
 
     public Mono<Application> execute(Application app) {
-        return Mono.defer(() -> {
-            ApplicationValidator.validateAndNormalize(app); // Validación in-memory
+        return validate(app).then(Mono.defer(() -> {
             LOG.fine("GenerateRequestUseCase.execute() - inicio");
 
-            return verifyUser(app)
-                    .then(validateLoanType(app))
-                    .then(assignInitialStateAndSave(app))
+            // Las tres consultas son independientes: se lanzan a la vez y la creación tarda lo que
+            // la más lenta. Se espera a las tres para que, si fallan varias, el error no dependa de
+            // cuál termina antes: gana el del paso que iba primero (usuario, tipo de préstamo, estado).
+            return Mono.zipDelayError(
+                            step(0, verifyUser(app)),
+                            step(1, validateLoanType(app)),
+                            step(2, initialState()))
+                    .onErrorMap(GenerateRequestUseCase::firstByPrecedence)
+                    .flatMap(deps -> assignInitialStateAndSave(app, deps.getT3()))
                     .doOnError(e -> LOG.warning(() -> "Error en generate request: " + e.getMessage()))
                     .doOnSuccess(ok -> LOG.fine("GenerateRequestUseCase.execute() - éxito"));
-        });
+        }));
     }
 
     // ---------------- MÉTODOS PRIVADOS ----------------
 
+    /** Validación in-memory; el error sale como señal, igual que el resto del flujo. */
+    private Mono<Void> validate(Application app) {
+        return stageTimer.time(Stage.VALIDATION,
+                Mono.fromRunnable(() -> ApplicationValidator.validateAndNormalize(app)));
+    }
+
     private Mono<Boolean> verifyUser(Application app) {
-        return verifyUserUseCase.execute(app.getIdentityDocument(), app.getEmail())
-                .doOnNext(valid -> LOG.fine("Usuario verificado para documento=" + app.getIdentityDocument()));
+        return stageTimer.time(Stage.USER_VERIFY, verifyUserUseCase.execute(app.getIdentityDocument(), app.getEmail()))
+                .doOnNext(valid -> LOG.fine(() -> "Usuario verificado para documento=" + app.getIdentityDocument()))
+                // solo importa que no falle; un vacío no debe cortar el zip
+                .thenReturn(Boolean.TRUE);
     }
 
     private Mono<Application> validateLoanType(Application app) {
-        return loanTypeRepository.findById(app.getLoanTypeId())
+        return stageTimer.time(Stage.LOAN_TYPE_LOOKUP, loanTypeRepository.findById(app.getLoanTypeId()))
                 .switchIfEmpty(Mono.error(
                         new ConfigurationException(Messages.stateNotFound(Messages.LOAN_TYPE_NO_EXIST))
                 ))
                 .flatMap(loanType -> LoanTypeValidator.validateAmount(app, loanType))
-                .doOnSuccess(ok -> LOG.fine("Tipo de préstamo validado: " + app.getLoanTypeId()));
+                .doOnSuccess(ok -> LOG.fine(() -> "Tipo de préstamo validado: " + app.getLoanTypeId()));
     }
 
-    private Mono<Application> assignInitialStateAndSave(Application app) {
-        return statesRepository.findByCode(DEFAULT_STATE_CODE)
+    private Mono<States> initialState() {
+        return stageTimer.time(Stage.STATE_LOOKUP, statesRepository.findByCode(DEFAULT_STATE_CODE))
                 .switchIfEmpty(Mono.error(
                         new ConfigurationException(Messages.stateNotFound(DEFAULT_STATE_CODE))
-                ))
-                .flatMap(state -> {
-                    app.setStateId(state.getId());
-                    LOG.fine(() -> "Estado inicial asignado: " + state.getCode());
-                    return applicationRepository.save(app)
-                            .doOnSuccess(saved -> LOG.info(() ->
-                                    "Solicitud creada id=" + saved.getId()
-                                            + ", state=" + state.getCode()
-                            ));
-                });
+                ));
+    }
+
+    private static <T> Mono<T> step(int order, Mono<T> lookup) {
+        return lookup.onErrorMap(e -> new StepFailure(order, e));
+    }
+
+    /** De los errores acumulados por zipDelayError devuelve el del paso con menor orden. */
+    private static Throwable firstByPrecedence(Throwable error) {
+        return Exceptions.unwrapMultiple(error).stream()
+                .filter(StepFailure.class::isInstance)
+                .map(StepFailure.class::cast)
+                .min(Comparator.comparingInt(StepFailure::order))
+                .<Throwable>map(Throwable::getCause)
+                .orElse(error);
+    }
+
+    private Mono<Application> assignInitialStateAndSave(Application app, States state) {
+        app.setStateId(state.getId());
+        LOG.fine(() -> "Estado inicial asignado: " + state.getCode());
+        return stageTimer.time(Stage.SAVE, applicationRepository.save(app))
+                .doOnSuccess(saved -> LOG.info(() ->
+                        "Solicitud creada id=" + saved.getId()
+                                + ", state=" + state.getCode()
+                ));
+    }
+
+    /** Marca el error de una consulta con su orden; no sale del caso de uso. */
+    private static final class StepFailure extends RuntimeException {
+        private final int order;
+
+        StepFailure(int order, Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+            this.order = order;
+        }
+
+        int order() {
+            return order;
+        }
     }
 }
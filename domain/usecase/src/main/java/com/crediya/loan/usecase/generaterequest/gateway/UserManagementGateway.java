@@ -1,11 +1,20 @@
 package com.crediya.loan.usecase.generaterequest.gateway;
 
 import com.crediya.loan.model.user.User;
+import com.crediya.loan.model.user.UserCredentials;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 public interface UserManagementGateway {
     Flux<User> loadUsers();
     Mono<Boolean> verify(String documentNumber, String email);
 
+    /** Consulta en una sola llamada los usuarios de los documentos indicados (p. ej. los de una página). */
+    Flux<User> findUsersByDocuments(Set<String> documents);
+
+    /** Verifica varios usuarios en una sola llamada y devuelve el subconjunto que sí está registrado. */
+    Mono<Set<UserCredentials>> verifyAll(Set<UserCredentials> credentials);
+
 }
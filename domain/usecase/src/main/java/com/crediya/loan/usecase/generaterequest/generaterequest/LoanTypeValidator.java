@@ -12,11 +12,7 @@ public class LoanTypeValidator {
 
     public static Mono<Application> validateAmount(Application a, LoanType loanType) {
         return Mono.just(a)
-                .filter(app ->
-                        app.getAmount() != null &&
-                                app.getAmount().compareTo(loanType.getAmountMin()) >= 0 &&
-                                app.getAmount().compareTo(loanType.getAmountMax()) <= 0
-                )
+                .filter(app -> isAmountAllowed(app, loanType))
                 .switchIfEmpty(Mono.error(
                         new ValidationException(
                                 "amount",
@@ -24,4 +20,10 @@ public class LoanTypeValidator {
                         )
                 ));
     }
+
+    public static boolean isAmountAllowed(Application app, LoanType loanType) {
+        return app.getAmount() != null &&
+                app.getAmount().compareTo(loanType.getAmountMin()) >= 0 &&
+                app.getAmount().compareTo(loanType.getAmountMax()) <= 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.crediya.loan.usecase.getpendingapplications;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.shared.Stage;
+import com.crediya.loan.model.shared.gateways.StageTimer;
+import com.crediya.loan.model.user.UserIndex;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Completa un lote de solicitudes con los datos del solicitante (fullName, baseSalary) haciendo
+ * una sola consulta por lote al servicio de usuarios. Lo comparten el listado y la exportación.
+ */
+public final class ApplicationUserEnricher {
+
+    private static final Logger LOG = Logger.getLogger(ApplicationUserEnricher.class.getName());
+
+    private ApplicationUserEnricher() {
+    }
+
+    /**
+     * Carga solo los usuarios de los documentos presentes en el lote y los indexa por documento.
+     * El índice es propio de cada llamada, así que las peticiones concurrentes no comparten estado mutable.
+     */
+    public static Mono<List<ApplicationPagined>> enrich(List<ApplicationPagined> applications,
+                                                        UserManagementGateway gateway) {
+        return enrich(applications, gateway, StageTimer.NOOP);
+    }
+
+    /** Igual que {@link #enrich(List, UserManagementGateway)}, midiendo la carga de usuarios como {@link Stage#USER_LOAD}. */
+    public static Mono<List<ApplicationPagined>> enrich(List<ApplicationPagined> applications,
+                                                        UserManagementGateway gateway,
+                                                        StageTimer stageTimer) {
+        return stageTimer.time(Stage.USER_LOAD, loadUsers(applications, gateway))
+                .map(index -> {
+                    applications.forEach(app -> enrichWithUserData(app, index));
+                    return applications;
+                });
+    }
+
+    private static Mono<UserIndex> loadUsers(List<ApplicationPagined> applications, UserManagementGateway gateway) {
+        Set<String> documents = applications.stream()
+                .map(ApplicationPagined::getIdentityDocument)
+                .map(UserIndex::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (documents.isEmpty()) {
+            return Mono.just(UserIndex.empty());
+        }
+
+        return gateway.findUsersByDocuments(documents)
+                .collectList()
+                .map(UserIndex::of)
+                .doOnNext(index -> LOG.fine(() -> "[loadUsers] Usuarios cargados: " + index.size()
+                        + " para " + documents.size() + " documentos"));
+    }
+
+    private static void enrichWithUserData(ApplicationPagined app, UserIndex index) {
+        index.find(app.getIdentityDocument())
+                .ifPresent(u -> {
+                    String fullName = Optional.ofNullable(u.getFirstName()).orElse("") +
+                            " " +
+                            Optional.ofNullable(u.getLastName()).orElse("");
+                    app.setFullName(fullName.trim());
+                    app.setBaseSalary(u.getBaseSalary());
+                });
+    }
+}
@@ -22,8 +22,16 @@ public final class Messages {
     //restconsumer
     public static final String DATA_USER_NOT_EXIST   = "Los datos ingresados del usuario no son los que están en el sistema.";
 
+    // paginación
+    public static final String CURSOR_INVALID      = "El cursor de paginación no es válido";
+    public static final String COUNT_MODE_INVALID  = "El parámetro count debe ser exact, cached o none";
+    public static final String EMAIL_MATCH_INVALID = "El parámetro emailMatch debe ser exact, prefix, fulltext o contains";
+    public static final String PAGE_INVALID        = "Los parámetros de paginación deben ser números enteros positivos";
+
     // solicitud
     public static final String APPLICATION_CREATED   = "Solicitud creada satisfactoriamente";
+    public static final String BATCH_PROCESSED       = "Lote de solicitudes procesado";
+    public static final String BATCH_EMPTY           = "El lote debe contener al menos una solicitud";
 
     //validated User
     public static final String USER_INVALID =
@@ -35,6 +43,10 @@ public final class Messages {
         return"El monto debe estar entre " + amountMin + " y " + amountMax +" ";
     }
 
+    public static String batchTooLarge(int max) { return "El lote no puede tener más de " + max + " solicitudes"; }
+
+    public static String filterInvalid(String param) { return "El filtro '" + param + "' no tiene un formato válido"; }
+
     public static String stateNotFound(String code){ return "El estado inicial '" + code + "' no existe"; }
 
 }
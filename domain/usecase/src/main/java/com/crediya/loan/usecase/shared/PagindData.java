@@ -6,13 +6,25 @@ public final class PagindData {
     public static final String PAGINED_STATE   = "state";
     public static final String PAGINED_DOCUMENT       = "document";
     public static final String PAGINED_EMAIL      = "email";
+    public static final String PAGINED_EMAIL_MATCH = "emailMatch";
     public static final String PAGINED_SIZE      = "size";
     public static final String PAGINED_PAGE      = "page";
+    public static final String PAGINED_CURSOR    = "cursor";
+    public static final String PAGINED_COUNT     = "count";
+    public static final String PAGINED_MIN_AMOUNT = "minAmount";
+    public static final String PAGINED_MAX_AMOUNT = "maxAmount";
+    public static final String PAGINED_TERM_FROM  = "termFrom";
+    public static final String PAGINED_TERM_TO    = "termTo";
+    public static final String PAGINED_LOAN_TYPES = "loanTypes";
+    public static final String PAGINED_STATES     = "states";
 
     //value
     public static final String PAGINED_SIZE_VALUE      = "10";
     public static final String PAGINED_PAGE_VALUE      = "1";
 
+    //límites
+    public static final int PAGINED_MAX_SIZE = 100;
+
 
 
 }
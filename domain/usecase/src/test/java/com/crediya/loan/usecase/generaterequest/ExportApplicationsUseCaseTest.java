@@ -0,0 +1,80 @@
+package com.crediya.loan.usecase.generaterequest;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.model.application.gateways.ApplicationRepository;
+import com.crediya.loan.model.user.User;
+import com.crediya.loan.usecase.exportapplications.ExportApplicationsUseCase;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+
+class ExportApplicationsUseCaseTest {
+
+    private ApplicationRepository repo;
+    private UserManagementGateway gateway;
+    private ExportApplicationsUseCase useCase;
+    private final PendingApplicationsCriteria criteria = new PendingApplicationsCriteria(null, null, null, 1, 10);
+
+    @BeforeEach
+    void setUp() {
+        repo = Mockito.mock(ApplicationRepository.class);
+        gateway = Mockito.mock(UserManagementGateway.class);
+        useCase = new ExportApplicationsUseCase(repo, gateway);
+    }
+
+    private static ApplicationPagined app(long id) {
+        return ApplicationPagined.builder().id(id).identityDocument("CC" + id).build();
+    }
+
+    @Test
+    void execute_enrichesInBatchesAndKeepsOrder() {
+        Mockito.when(repo.streamApplications(criteria))
+                .thenReturn(Flux.range(1, 450).map(i -> app(1000 - i)));
+        Mockito.when(gateway.findUsersByDocuments(anySet())).thenAnswer(inv -> {
+            Set<String> docs = inv.getArgument(0);
+            return Flux.fromIterable(docs).map(doc -> User.builder()
+                    .identityDocument(doc).firstName("Ana").lastName(doc).baseSalary(BigDecimal.TEN).build());
+        });
+
+        AtomicLong previous = new AtomicLong(Long.MAX_VALUE);
+        StepVerifier.create(useCase.execute(criteria))
+                .thenConsumeWhile(a -> {
+                    assertTrue(a.getId() < previous.getAndSet(a.getId()), "el orden de la BD se conserva");
+                    assertEquals("Ana " + a.getIdentityDocument(), a.getFullName());
+                    return true;
+                })
+                .verifyComplete();
+
+        // 450 filas en lotes de 200 => 3 llamadas al servicio de usuarios
+        Mockito.verify(gateway, Mockito.times(3)).findUsersByDocuments(any());
+    }
+
+    @Test
+    void execute_respectsDownstreamDemand() {
+        AtomicLong emitted = new AtomicLong();
+        Mockito.when(repo.streamApplications(criteria))
+                .thenReturn(Flux.range(1, 100_000).map(i -> app(i)).doOnNext(a -> emitted.incrementAndGet()));
+        Mockito.when(gateway.findUsersByDocuments(anySet())).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.execute(criteria), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        // solo se leyó lo necesario para el primer lote (más la precarga del buffer), no las 100k filas
+        assertTrue(emitted.get() < 2_000, "filas leídas: " + emitted.get());
+    }
+}
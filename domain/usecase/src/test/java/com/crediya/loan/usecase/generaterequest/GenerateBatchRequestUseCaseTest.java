@@ -0,0 +1,164 @@
+package com.crediya.loan.usecase.generaterequest;
+
+import com.crediya.loan.model.application.Application;
+import com.crediya.loan.model.application.BatchItemResult;
+import com.crediya.loan.model.application.gateways.ApplicationRepository;
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.model.loantype.gateways.LoanTypeRepository;
+import com.crediya.loan.model.states.States;
+import com.crediya.loan.model.states.gateways.StatesRepository;
+import com.crediya.loan.model.user.UserCredentials;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import com.crediya.loan.usecase.shared.ConfigurationException;
+import com.crediya.loan.usecase.shared.Messages;
+import com.crediya.loan.usecase.shared.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateBatchRequestUseCaseTest {
+
+    @Mock ApplicationRepository applicationRepository;
+    @Mock StatesRepository statesRepository;
+    @Mock LoanTypeRepository loanTypeRepository;
+    @Mock UserManagementGateway userManagementGateway;
+
+    GenerateBatchRequestUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GenerateBatchRequestUseCase(
+                applicationRepository, statesRepository, loanTypeRepository, userManagementGateway);
+    }
+
+    private static Application app(String doc, String amount, long loanTypeId) {
+        return Application.builder()
+                .identityDocument(doc)
+                .email("User" + doc + "@mail.com ")
+                .amount(new BigDecimal(amount))
+                .term(LocalDate.now().plusMonths(12))
+                .loanTypeId(loanTypeId)
+                .build();
+    }
+
+    private static LoanType loanType(long id) {
+        return LoanType.builder().id(id).amountMin(new BigDecimal("1000")).amountMax(new BigDecimal("50000")).build();
+    }
+
+    private void savesWithSequentialIds() {
+        AtomicLong ids = new AtomicLong(100);
+        when(applicationRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Application> apps = inv.getArgument(0);
+            return Flux.fromIterable(apps).map(a -> a.toBuilder().id(ids.incrementAndGet()).build());
+        });
+    }
+
+    @Test
+    void execute_validatesVerifiesAndPersistsWithOneCallPerDependency() {
+        var valid1 = app("1000001", "2000", 1);
+        var invalidDoc = app("12AB", "2000", 1);
+        var unknownUser = app("1000003", "2000", 1);
+        var outOfRange = app("1000004", "999999", 1);
+        var unknownLoanType = app("1000005", "2000", 9);
+        var valid2 = app("1000006", "3000", 1);
+
+        when(userManagementGateway.verifyAll(anySet())).thenAnswer(inv -> {
+            Set<UserCredentials> asked = inv.getArgument(0);
+            Set<UserCredentials> ok = new java.util.HashSet<>(asked);
+            ok.remove(new UserCredentials("1000003", "user1000003@mail.com"));
+            return Mono.just(ok);
+        });
+        when(loanTypeRepository.findAllByIds(Set.of(1L, 9L))).thenReturn(Flux.just(loanType(1)));
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.just(States.builder().id(7L).code("PEN").build()));
+        savesWithSequentialIds();
+
+        StepVerifier.create(useCase.execute(List.of(valid1, invalidDoc, unknownUser, outOfRange, unknownLoanType, valid2)))
+                .assertNext(results -> {
+                    assertEquals(6, results.size());
+                    assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(BatchItemResult::index).toList());
+
+                    assertTrue(results.get(0).isCreated());
+                    assertEquals(101L, results.get(0).application().getId());
+                    assertEquals(7L, results.get(0).application().getStateId());
+                    assertEquals("identityDocument", results.get(1).field());
+                    assertEquals(Messages.USER_INVALID, results.get(2).message());
+                    assertEquals("amount", results.get(3).field());
+                    assertEquals("loanTypeId", results.get(4).field());
+                    assertEquals(102L, results.get(5).application().getId());
+                })
+                .verifyComplete();
+
+        verify(userManagementGateway, times(1)).verifyAll(anySet());
+        verify(loanTypeRepository, times(1)).findAllByIds(anySet());
+        verify(statesRepository, times(1)).findByCode("PEN");
+        verify(applicationRepository, times(1)).saveAll(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void execute_allInvalid_skipsRemoteCalls() {
+        StepVerifier.create(useCase.execute(List.of(app("x", "2000", 1))))
+                .assertNext(results -> assertFalse(results.get(0).isCreated()))
+                .verifyComplete();
+
+        verifyNoInteractions(userManagementGateway, loanTypeRepository, statesRepository, applicationRepository);
+    }
+
+    @Test
+    void execute_emptyOrTooLarge_failsWithValidationException() {
+        StepVerifier.create(useCase.execute(List.of())).expectError(ValidationException.class).verify();
+
+        List<Application> tooMany = new ArrayList<>(Collections.nCopies(GenerateBatchRequestUseCase.MAX_BATCH_SIZE + 1,
+                app("1000001", "2000", 1)));
+        StepVerifier.create(useCase.execute(tooMany)).expectError(ValidationException.class).verify();
+    }
+
+    @Test
+    void execute_missingInitialState_failsWholeBatch() {
+        when(userManagementGateway.verifyAll(anySet())).thenReturn(Mono.just(Set.of()));
+        when(loanTypeRepository.findAllByIds(anySet())).thenReturn(Flux.empty());
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(List.of(app("1000001", "2000", 1))))
+                .expectError(ConfigurationException.class)
+                .verify();
+
+        verify(applicationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void execute_largeBatch_keepsConstantRoundTrips() {
+        List<Application> apps = IntStream.range(0, 300)
+                .mapToObj(i -> app(String.valueOf(2_000_000 + i), "2000", 1))
+                .toList();
+        when(userManagementGateway.verifyAll(anySet())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(loanTypeRepository.findAllByIds(anySet())).thenReturn(Flux.just(loanType(1)));
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.just(States.builder().id(1L).code("PEN").build()));
+        savesWithSequentialIds();
+
+        StepVerifier.create(useCase.execute(apps))
+                .assertNext(results -> assertEquals(300, results.stream().filter(BatchItemResult::isCreated).count()))
+                .verifyComplete();
+
+        verify(applicationRepository, times(1)).saveAll(anyList());
+        verify(userManagementGateway, times(1)).verifyAll(anySet());
+    }
+}
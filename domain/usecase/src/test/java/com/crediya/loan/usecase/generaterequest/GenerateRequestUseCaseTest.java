@@ -4,21 +4,29 @@ import com.crediya.loan.model.application.Application;
 import com.crediya.loan.model.application.gateways.ApplicationRepository;
 import com.crediya.loan.model.loantype.LoanType;
 import com.crediya.loan.model.loantype.gateways.LoanTypeRepository;
+import com.crediya.loan.model.shared.gateways.StageTimer;
 import com.crediya.loan.model.states.States;
 import com.crediya.loan.model.states.gateways.StatesRepository;
 import com.crediya.loan.usecase.generaterequest.generaterequest.VerifyUserUseCase;
+import com.crediya.loan.usecase.shared.ConfigurationException;
+import com.crediya.loan.usecase.shared.Messages;
 import com.crediya.loan.usecase.shared.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,8 +52,8 @@ class GenerateRequestUseCaseTest {
                 applicationRepository,
                 statesRepository,
                 loanTypeRepository,
-                verifyUserUseCase
-
+                verifyUserUseCase,
+                StageTimer.NOOP
         );
 
         // configuración por defecto: verificar usuario siempre pasa
@@ -151,6 +159,172 @@ class GenerateRequestUseCaseTest {
         verifyNoInteractions(applicationRepository, statesRepository, loanTypeRepository);
     }
 
+    // ===== Concurrencia de las consultas =====
+
+    private Application validApplication() {
+        return buildApplication("test@example.com", BigDecimal.valueOf(5000), 1L, LocalDate.now().plusMonths(6));
+    }
 
+    private static <T> Mono<T> after(Duration delay, T value) {
+        return Mono.delay(delay).thenReturn(value);
+    }
 
+    @Test
+    void execute_lookupsRunConcurrently_latencyIsTheSlowestDependency() {
+        when(verifyUserUseCase.execute(anyString(), anyString()))
+                .thenAnswer(inv -> after(Duration.ofMillis(300), true));
+        when(loanTypeRepository.findById(1L))
+                .thenAnswer(inv -> after(Duration.ofMillis(200), buildLoanType(1L, BigDecimal.ONE, BigDecimal.valueOf(10000))));
+        when(statesRepository.findByCode("PEN"))
+                .thenAnswer(inv -> after(Duration.ofMillis(100), buildState(7L, "PEN")));
+        when(applicationRepository.save(any(Application.class)))
+                .thenAnswer(inv -> Mono.just(inv.getArgument(0, Application.class)));
+
+        StepVerifier.withVirtualTime(() -> useCase.execute(validApplication()))
+                .expectSubscription()
+                // en serie serían 600ms; en paralelo basta con la más lenta
+                .expectNoEvent(Duration.ofMillis(299))
+                .thenAwait(Duration.ofMillis(1))
+                .assertNext(saved -> assertEquals(7L, saved.getStateId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_subscribesAllLookupsBeforeAnyCompletes() {
+        PublisherProbe<Boolean> verify = PublisherProbe.of(Mono.never());
+        PublisherProbe<LoanType> loanType = PublisherProbe.of(Mono.never());
+        PublisherProbe<States> state = PublisherProbe.of(Mono.never());
+        when(verifyUserUseCase.execute(anyString(), anyString())).thenReturn(verify.mono());
+        when(loanTypeRepository.findById(1L)).thenReturn(loanType.mono());
+        when(statesRepository.findByCode("PEN")).thenReturn(state.mono());
+
+        StepVerifier.create(useCase.execute(validApplication()))
+                .expectSubscription()
+                .then(() -> {
+                    verify.assertWasSubscribed();
+                    loanType.assertWasSubscribed();
+                    state.assertWasSubscribed();
+                })
+                .thenCancel()
+                .verify();
+
+        verify.assertWasCancelled();
+        loanType.assertWasCancelled();
+        state.assertWasCancelled();
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void execute_userInvalid_waitsForTheOtherLookupsAndKeepsUserError() {
+        when(verifyUserUseCase.execute(anyString(), anyString()))
+                .thenAnswer(inv -> Mono.delay(Duration.ofMillis(50))
+                        .then(Mono.error(new ValidationException("User", Messages.USER_INVALID))));
+        when(loanTypeRepository.findById(1L))
+                .thenAnswer(inv -> after(Duration.ofMillis(100), buildLoanType(1L, BigDecimal.ONE, BigDecimal.valueOf(10000))));
+        when(statesRepository.findByCode("PEN")).thenAnswer(inv -> after(Duration.ofMillis(100), buildState(7L, "PEN")));
+
+        StepVerifier.withVirtualTime(() -> useCase.execute(validApplication()))
+                .expectSubscription()
+                // el error no sale hasta que terminan las demás consultas
+                .expectNoEvent(Duration.ofMillis(99))
+                .thenAwait(Duration.ofMillis(1))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(ValidationException.class, e);
+                    assertEquals(Messages.USER_INVALID, e.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void execute_loanTypeMissing_keepsConfigurationErrorAfterVerifyingUser() {
+        PublisherProbe<Boolean> verify = PublisherProbe.of(Mono.just(true));
+        when(verifyUserUseCase.execute(anyString(), anyString())).thenReturn(verify.mono());
+        when(loanTypeRepository.findById(1L)).thenReturn(Mono.empty());
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.just(buildState(7L, "PEN")));
+
+        StepVerifier.create(useCase.execute(validApplication()))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(ConfigurationException.class, e);
+                    assertEquals(Messages.stateNotFound(Messages.LOAN_TYPE_NO_EXIST), e.getMessage());
+                })
+                .verify();
+
+        verify.assertWasSubscribed();
+        verify.assertWasNotCancelled();
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void execute_userAndLoanTypeFail_userErrorWinsEvenIfItArrivesLast() {
+        when(verifyUserUseCase.execute(anyString(), anyString()))
+                .thenAnswer(inv -> Mono.delay(Duration.ofMillis(200))
+                        .then(Mono.error(new ValidationException("User", Messages.USER_INVALID))));
+        when(loanTypeRepository.findById(1L)).thenReturn(Mono.empty());
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.just(buildState(7L, "PEN")));
+
+        StepVerifier.withVirtualTime(() -> useCase.execute(validApplication()))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(200))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(ValidationException.class, e);
+                    assertEquals(Messages.USER_INVALID, e.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void execute_loanTypeAndStateFail_loanTypeErrorWins() {
+        when(verifyUserUseCase.execute(anyString(), anyString())).thenReturn(Mono.just(true));
+        when(loanTypeRepository.findById(1L))
+                .thenReturn(Mono.<LoanType>empty().delaySubscription(Duration.ofMillis(20)));
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(validApplication()))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(ConfigurationException.class, e);
+                    assertEquals(Messages.stateNotFound(Messages.LOAN_TYPE_NO_EXIST), e.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void execute_amountOutOfRange_keepsValidationMessage() {
+        when(verifyUserUseCase.execute(anyString(), anyString())).thenReturn(Mono.just(true));
+        when(loanTypeRepository.findById(1L))
+                .thenReturn(Mono.just(buildLoanType(1L, BigDecimal.valueOf(10000), BigDecimal.valueOf(20000))));
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.just(buildState(7L, "PEN")));
+
+        StepVerifier.create(useCase.execute(validApplication()))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(ValidationException.class, e);
+                    assertEquals(Messages.amountNotAllowed(BigDecimal.valueOf(10000), BigDecimal.valueOf(20000)),
+                            e.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void execute_initialStateMissing_keepsConfigurationError() {
+        when(verifyUserUseCase.execute(anyString(), anyString())).thenReturn(Mono.just(true));
+        when(loanTypeRepository.findById(1L))
+                .thenReturn(Mono.just(buildLoanType(1L, BigDecimal.ONE, BigDecimal.valueOf(10000))));
+        when(statesRepository.findByCode("PEN")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(validApplication()))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(ConfigurationException.class, e);
+                    assertEquals(Messages.stateNotFound("PEN"), e.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(applicationRepository);
+    }
 }
@@ -4,6 +4,7 @@ import com.crediya.loan.model.application.ApplicationPagined;
 import com.crediya.loan.model.application.PendingApplicationsCriteria;
 import com.crediya.loan.model.application.gateways.ApplicationRepository;
 import com.crediya.loan.model.shared.Page;
+import com.crediya.loan.model.shared.gateways.StageTimer;
 import com.crediya.loan.model.user.User;
 import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
 import com.crediya.loan.usecase.getpendingapplications.GetPendingApplicationsUseCase;
@@ -12,12 +13,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 
 class GetPendingApplicationsUseCaseTest {
@@ -30,7 +37,7 @@ class GetPendingApplicationsUseCaseTest {
     void setUp() {
         repo = Mockito.mock(ApplicationRepository.class);
         gateway = Mockito.mock(UserManagementGateway.class);
-        useCase = new GetPendingApplicationsUseCase(repo, gateway);
+        useCase = new GetPendingApplicationsUseCase(repo, gateway, StageTimer.NOOP);
     }
 
     @Test
@@ -42,7 +49,7 @@ class GetPendingApplicationsUseCaseTest {
         user.setLastName("Perez");
         user.setBaseSalary(new BigDecimal("1500"));
 
-        Mockito.when(gateway.loadUsers()).thenReturn(Flux.just(user));
+        Mockito.when(gateway.findUsersByDocuments(Set.of("123"))).thenReturn(Flux.just(user));
 
         // App paginada con identityDocument = "123"
         ApplicationPagined app = ApplicationPagined.builder()
@@ -77,7 +84,7 @@ class GetPendingApplicationsUseCaseTest {
     @Test
     void shouldNotEnrichWhenUserNotFound() {
         // Arrange: lista de usuarios vacía
-        Mockito.when(gateway.loadUsers()).thenReturn(Flux.empty());
+        Mockito.when(gateway.findUsersByDocuments(any())).thenReturn(Flux.empty());
 
         ApplicationPagined app = ApplicationPagined.builder()
                 .id(2L)
@@ -102,4 +109,79 @@ class GetPendingApplicationsUseCaseTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    void shouldRequestOnlyPageDocumentsInOneCall() {
+        ApplicationPagined a1 = ApplicationPagined.builder().id(1L).identityDocument(" 123 ").build();
+        ApplicationPagined a2 = ApplicationPagined.builder().id(2L).identityDocument("456").build();
+        ApplicationPagined a3 = ApplicationPagined.builder().id(3L).identityDocument("123").build();
+
+        Mockito.when(repo.findApplicationsPaginated(any()))
+                .thenReturn(Mono.just(Page.of(List.of(a1, a2, a3), 1, 10, 3)));
+        Mockito.when(gateway.findUsersByDocuments(any())).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.execute(new PendingApplicationsCriteria(null, null, null, 1, 10)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(gateway, Mockito.times(1)).findUsersByDocuments(Set.of("123", "456"));
+        Mockito.verify(gateway, Mockito.never()).loadUsers();
+    }
+
+    @Test
+    void shouldNotCallUserServiceWhenPageIsEmpty() {
+        Mockito.when(repo.findApplicationsPaginated(any()))
+                .thenReturn(Mono.just(Page.of(List.of(), 1, 10, 0)));
+
+        StepVerifier.create(useCase.execute(new PendingApplicationsCriteria(null, null, null, 1, 10)))
+                .assertNext(p -> assertTrue(p.content().isEmpty()))
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(gateway);
+    }
+
+    @Test
+    void concurrentExecutions_shouldEnrichEachPageWithItsOwnUsers() {
+        int requests = 500;
+
+        // Cada página contiene una sola solicitud cuyo documento depende del número de página
+        Mockito.when(repo.findApplicationsPaginated(any())).thenAnswer(inv -> {
+            PendingApplicationsCriteria c = inv.getArgument(0);
+            ApplicationPagined app = ApplicationPagined.builder()
+                    .id((long) c.page())
+                    .identityDocument("DOC" + c.page())
+                    .build();
+            return Mono.just(Page.of(List.of(app), c.page(), 1, requests));
+        });
+
+        // El servicio de usuarios responde con latencia variable para forzar el entrelazado
+        Mockito.when(gateway.findUsersByDocuments(any())).thenAnswer(inv -> {
+            Set<String> docs = inv.getArgument(0);
+            return Flux.fromIterable(docs)
+                    .map(doc -> User.builder()
+                            .identityDocument(doc)
+                            .firstName("Nombre")
+                            .lastName(doc)
+                            .baseSalary(new BigDecimal(doc.substring(3)))
+                            .build())
+                    .delayElements(Duration.ofMillis(ThreadLocalRandom.current().nextInt(1, 5)));
+        });
+
+        Flux<Page<ApplicationPagined>> all = Flux.range(1, requests)
+                .flatMap(i -> useCase.execute(new PendingApplicationsCriteria(null, null, null, i, 1))
+                        .subscribeOn(Schedulers.parallel()), 64);
+
+        StepVerifier.create(all)
+                .thenConsumeWhile(p -> {
+                    ApplicationPagined app = p.content().get(0);
+                    String doc = "DOC" + p.page();
+                    assertEquals("Nombre " + doc, app.getFullName());
+                    assertEquals(new BigDecimal(String.valueOf(p.page())), app.getBaseSalary());
+                    return true;
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(30));
+
+        Mockito.verify(gateway, Mockito.times(requests)).findUsersByDocuments(any());
+    }
 }
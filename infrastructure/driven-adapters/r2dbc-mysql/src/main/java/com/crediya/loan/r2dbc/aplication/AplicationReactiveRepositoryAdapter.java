@@ -2,19 +2,27 @@ package com.crediya.loan.r2dbc.aplication;
 
 import com.crediya.loan.model.application.Application;
 import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.CountMode;
 import com.crediya.loan.model.application.PendingApplicationsCriteria;
 import com.crediya.loan.model.application.gateways.ApplicationRepository;
 import com.crediya.loan.model.shared.Page;
+import com.crediya.loan.model.shared.Stage;
+import com.crediya.loan.model.shared.gateways.StageTimer;
+import com.crediya.loan.r2dbc.aplication.ApplicationQueryCompiler.CompiledQuery;
 import com.crediya.loan.r2dbc.entity.ApplicationEntity;
 import com.crediya.loan.r2dbc.helper.ReactiveAdapterOperations;
 import com.crediya.loan.r2dbc.mapper.AplicationEntityMapper;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
 import lombok.extern.slf4j.Slf4j;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Repository
@@ -28,18 +36,36 @@ public class AplicationReactiveRepositoryAdapter extends ReactiveAdapterOperatio
     private final AplicationEntityMapper aplicationEntityMapper;
     private final AplicationReactiveRepository repository;
     private final DatabaseClient db;
+    private final ApplicationCountCache countCache;
+    private final ApplicationPageCache pageCache;
+    private final ApplicationQueryCompiler queryCompiler;
+    private final ApplicationExportProperties exportProperties;
+    private final StageTimer stageTimer;
 
     private  final Long PENDING_STATE_ID = 1L;
 
+    static final String INSERT_APPLICATION = """
+            INSERT INTO solicitud (monto, plazo, email, documento_identidad, id_estado, id_tipo_prestamo)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
 
     public AplicationReactiveRepositoryAdapter(AplicationReactiveRepository repository,
                                                AplicationEntityMapper aplicationEntityMapper,
-                                               ObjectMapper mapper,
-                                               DatabaseClient db) {
-        super(repository, mapper, entity -> mapper.map(entity, Application.class));
+                                               DatabaseClient db,
+                                               ApplicationCountCache countCache,
+                                               ApplicationPageCache pageCache,
+                                               ApplicationQueryCompiler queryCompiler,
+                                               ApplicationExportProperties exportProperties,
+                                               StageTimer stageTimer) {
+        super(repository, aplicationEntityMapper::toEntity, aplicationEntityMapper::toDomain);
         this.aplicationEntityMapper = aplicationEntityMapper;
         this.repository = repository;
         this.db = db;
+        this.countCache = countCache;
+        this.pageCache = pageCache;
+        this.queryCompiler = queryCompiler;
+        this.exportProperties = exportProperties;
+        this.stageTimer = stageTimer;
     }
 
     @Override
@@ -51,45 +77,157 @@ public class AplicationReactiveRepositoryAdapter extends ReactiveAdapterOperatio
         return repository.save(entity)
                 // 3) Mapear de vuelta a dominio
                 .map(aplicationEntityMapper::toDomain)
-                .doOnSuccess(saved -> log.info("[application.save] id={} email={} stateId={}",
+                // una solicitud nueva cambia los totales: no se sirven conteos viejos
+                .doOnSuccess(saved -> invalidateListings())
+                .doOnSuccess(saved -> log.debug("[application.save] id={} email={} stateId={}",
                         saved.getId(), saved.getEmail(), saved.getStateId()))
                 .doOnError(err -> log.warn("[application.save] failed: {}", err.toString()));
     }
 
+    /**
+     * Un solo statement con una binding por solicitud ({@code Statement.add()}) dentro de una
+     * transacción: el driver reutiliza la sentencia preparada y no hay un viaje de ida y vuelta por
+     * solicitud. Si algo falla no queda ninguna guardada.
+     */
+    @Override
+    public Flux<Application> saveAll(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+        return db.inConnectionMany(connection -> Flux.usingWhen(
+                        Mono.from(connection.beginTransaction()).thenReturn(connection),
+                        conn -> insertBatch(conn, applications),
+                        Connection::commitTransaction,
+                        (conn, err) -> conn.rollbackTransaction(),
+                        Connection::rollbackTransaction))
+                // una solicitud nueva cambia los totales: no se sirven conteos viejos
+                .doOnComplete(this::invalidateListings)
+                .doOnComplete(() -> log.debug("[application.saveAll] {} solicitudes guardadas", applications.size()))
+                .doOnError(err -> log.warn("[application.saveAll] failed: {}", err.toString()));
+    }
+
+    /** Con el caché de páginas activo, la página se carga de la base solo si no está en caché para esos criterios. */
     @Override
     public Mono<Page<ApplicationPagined>> findApplicationsPaginated(PendingApplicationsCriteria criteria) {
-        int offset = (criteria.page() - 1) * criteria.size();
-
-        log.info("[findApplicationsPaginated] Ejecutando búsqueda con criterios: estado={}, documento={}, email={}, page={}, size={}, offset={}",
-                criteria.state(), criteria.document(), criteria.email(), criteria.page(), criteria.size(), offset);
-
-        Mono<List<ApplicationPagined>> data = repository.dataApplicationPagined(
-                        criteria.state(),
-                        criteria.document(),
-                        criteria.email(),
-                        criteria.size(),
-                        offset
-                )
-                .doOnNext(row -> log.debug("[findApplicationsPaginated] Fila obtenida: {}", row))
-                .collectList()
+        return pageCache.page(criteria, () -> loadPage(criteria));
+    }
+
+    /** Vacía los cachés de totales y páginas; toda escritura sobre solicitudes debe llamarlo. */
+    public void invalidateListings() {
+        countCache.invalidateAll();
+        pageCache.invalidateAll();
+    }
+
+    @Override
+    public Flux<ApplicationPagined> streamApplications(PendingApplicationsCriteria criteria) {
+        CompiledQuery query = queryCompiler.compileStream(criteria);
+        log.debug("[streamApplications] Exportando solicitudes con criterios: {}, fetchSize={}",
+                criteria, exportProperties.fetchSize());
+
+        // fetchSize hace que el driver lea por bloques en vez de materializar todo el resultado;
+        // la demanda del suscriptor (la respuesta HTTP) regula cuántos bloques se piden
+        return execute(query)
+                .filter(statement -> statement.fetchSize(exportProperties.fetchSize()))
+                .map(ApplicationPaginedRowMapper.INSTANCE)
+                .all();
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private Mono<Page<ApplicationPagined>> loadPage(PendingApplicationsCriteria criteria) {
+        CountMode countMode = criteria.countMode() != null ? criteria.countMode() : CountMode.DEFAULT;
+        // Sin total (NONE) o con cursor, hasNext se resuelve leyendo un registro de más
+        boolean lookAhead = countMode == CountMode.NONE || criteria.isCursorMode();
+        int limit = lookAhead ? criteria.size() + 1 : criteria.size();
+
+        log.debug("[findApplicationsPaginated] Ejecutando búsqueda con criterios: {}", criteria);
+
+        Flux<ApplicationPagined> rows = execute(queryCompiler.compileData(criteria, limit))
+                .map(ApplicationPaginedRowMapper.INSTANCE)
+                .all();
+
+        Mono<List<ApplicationPagined>> data = stageTimer.time(Stage.PAGE_QUERY, rows.collectList())
                 .doOnNext(list -> {
-                    log.info("[findApplicationsPaginated] Se obtuvieron {} registros de la base de datos", list.size());
-                    list.forEach(app -> log.info("➡ Registro completo: {}", app));
+                    log.debug("[findApplicationsPaginated] Se obtuvieron {} registros de la base de datos", list.size());
+                    // el detalle por fila solo en DEBUG; sin el guard se recorrería la página aunque no se escriba
+                    if (log.isDebugEnabled()) {
+                        list.forEach(app -> log.debug("➡ Registro completo: {}", app));
+                    }
                 });
 
-        Mono<Long> total = repository.countApplications(
-                        criteria.state(),
-                        criteria.document(),
-                        criteria.email()
-                )
-                .doOnNext(count -> log.info("[findApplicationsPaginated] Total de registros encontrados: {}", count))
-                .map(val -> val != null ? val : 0L);
+        Mono<Optional<Long>> total = switch (countMode) {
+            case EXACT -> stageTimer.time(Stage.COUNT_QUERY, count(queryCompiler.compileCount(criteria)))
+                    .map(Optional::of);
+            case CACHED -> {
+                CompiledQuery countQuery = queryCompiler.compileCount(criteria);
+                // solo se mide cuando el conteo llega a la base; un acierto del caché no es una consulta
+                yield countCache.get(countQuery, () -> stageTimer.time(Stage.COUNT_QUERY, count(countQuery)))
+                        .map(Optional::of);
+            }
+            case NONE -> Mono.just(Optional.empty());
+        };
 
         return Mono.zip(data, total)
-                .doOnNext(tuple -> log.info("[findApplicationsPaginated] Preparando Page con {} elementos y total {}",
-                        tuple.getT1().size(), tuple.getT2()))
-                .map(tuple -> Page.of(tuple.getT1(), criteria.page(), criteria.size(), tuple.getT2()));
+                .doOnNext(tuple -> log.debug("[findApplicationsPaginated] Preparando Page con {} elementos y total {}",
+                        tuple.getT1().size(), tuple.getT2().orElse(null)))
+                .map(tuple -> toPage(criteria, tuple.getT1(), tuple.getT2().orElse(null), lookAhead));
+    }
+
+    private Flux<Application> insertBatch(Connection connection, List<Application> applications) {
+        Statement statement = connection.createStatement(INSERT_APPLICATION)
+                .returnGeneratedValues("id_solicitud");
+        for (int i = 0; i < applications.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            Application app = applications.get(i);
+            statement.bind(0, app.getAmount())
+                    .bind(1, app.getTerm())
+                    .bind(2, app.getEmail())
+                    .bind(3, app.getIdentityDocument())
+                    .bind(4, app.getStateId())
+                    .bind(5, app.getLoanTypeId());
+        }
+        // Un Result por binding, en el mismo orden en que se agregaron
+        return Flux.from(statement.execute())
+                .concatMap(result -> result.map((row, metadata) -> row.get("id_solicitud", Long.class)))
+                .index()
+                .map(generated -> applications.get(generated.getT1().intValue()).toBuilder()
+                        .id(generated.getT2())
+                        .build());
+    }
+
+    private DatabaseClient.GenericExecuteSpec execute(CompiledQuery query) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(query.sql());
+        for (Map.Entry<String, Object> param : query.params().entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    private Mono<Long> count(CompiledQuery query) {
+        return execute(query)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .doOnNext(count -> log.debug("[findApplicationsPaginated] Total de registros encontrados: {}", count))
+                .map(val -> val != null ? val : 0L)
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * Con lectura adelantada el registro extra solo indica que hay página siguiente y se descarta;
+     * sin ella, hasNext sale del total. El cursor siguiente es el último id de la página.
+     */
+    private Page<ApplicationPagined> toPage(PendingApplicationsCriteria criteria, List<ApplicationPagined> rows,
+                                            Long total, boolean lookAhead) {
+        int size = criteria.size();
+        boolean hasNext = lookAhead
+                ? rows.size() > size
+                : total != null && (long) criteria.page() * size < total;
+        List<ApplicationPagined> content = rows.size() > size ? List.copyOf(rows.subList(0, size)) : rows;
+        Long nextCursor = hasNext && !content.isEmpty() ? content.get(content.size() - 1).getId() : null;
+        return Page.of(content, criteria.page(), size, total, hasNext, nextCursor);
     }
 
 
-}
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.r2dbc.aplication.ApplicationQueryCompiler.CompiledQuery;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Totales del listado de solicitudes por consulta compilada (SQL + parámetros), con un TTL corto.
+ * Las consultas concurrentes con los mismos filtros comparten un único COUNT y los errores no se cachean.
+ */
+@Slf4j
+@Component
+public class ApplicationCountCache {
+
+    private final AsyncCache<CompiledQuery, Long> cache;
+
+    public ApplicationCountCache(ApplicationCountProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttl())
+                .maximumSize(properties.maxSize())
+                .buildAsync();
+    }
+
+    /**
+     * El COUNT se ejecuta con el contexto de quien lo dispara (tiempos para Server-Timing) y, con
+     * suppressCancel, la cancelación de un suscriptor (zip con la página, cliente que se va) no cancela
+     * el future que comparten los demás que esperan el mismo total.
+     */
+    public Mono<Long> get(CompiledQuery countQuery, Supplier<Mono<Long>> counter) {
+        return Mono.deferContextual(ctx -> Mono.fromFuture(() -> cache.get(countQuery, (k, executor) -> {
+            log.debug("[countCache] Miss para {}, ejecutando COUNT", k.params());
+            return counter.get().contextWrite(ctx).toFuture();
+        }), true));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
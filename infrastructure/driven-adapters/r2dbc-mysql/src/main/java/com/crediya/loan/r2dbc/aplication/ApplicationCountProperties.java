@@ -0,0 +1,18 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del caché de totales del listado de solicitudes (conteo {@code CACHED}).
+ *
+ * @param ttl     tiempo que se reutiliza un total para los mismos filtros
+ * @param maxSize máximo de combinaciones de filtros retenidas
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.count-cache")
+public record ApplicationCountProperties(
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("1000") long maxSize) {
+}
@@ -0,0 +1,14 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración de la exportación de solicitudes.
+ *
+ * @param fetchSize filas que el driver trae por viaje a la base de datos mientras se emite el export
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.export")
+public record ApplicationExportProperties(
+        @DefaultValue("500") int fetchSize) {
+}
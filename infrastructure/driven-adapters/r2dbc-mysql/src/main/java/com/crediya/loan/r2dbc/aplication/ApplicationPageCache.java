@@ -0,0 +1,89 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.model.shared.Page;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Páginas del listado de solicitudes en memoria de la instancia, por criterios, durante {@code ttl}.
+ * Las escrituras de esta instancia vacían el caché; las de otra instancia y los cambios de estado
+ * hechos fuera de este servicio se ven cuando vence la entrada, así que {@code ttl} es el máximo
+ * retraso de una página (y de su ETag, que se calcula sobre ella).
+ * <p>
+ * Los misses concurrentes de una misma clave comparten una única carga y los errores no se cachean.
+ * La carga corre con el contexto de quien la dispara (token, tiempos por etapa) y no se cancela si
+ * ese suscriptor se va: los demás siguen esperando el mismo resultado.
+ * Cada llamada recibe una copia de las filas: el enriquecimiento con datos de usuario las modifica.
+ */
+@Slf4j
+@Component
+public class ApplicationPageCache {
+
+    private final boolean enabled;
+    private final AsyncCache<PendingApplicationsCriteria, Page<ApplicationPagined>> pages;
+
+    public ApplicationPageCache(ApplicationPageCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttl())
+                .maximumSize(properties.maxSize())
+                .buildAsync();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<Page<ApplicationPagined>> page(PendingApplicationsCriteria criteria,
+                                               Supplier<Mono<Page<ApplicationPagined>>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return Mono.deferContextual(ctx -> Mono.fromFuture(() -> pages.get(criteria, (k, executor) -> {
+                    log.debug("[pageCache] Miss para {}", k);
+                    return loader.get().contextWrite(ctx).toFuture();
+                }), true))
+                .map(ApplicationPageCache::copy);
+    }
+
+    /** Vacía las páginas; lo llama toda escritura que pueda cambiar un listado. */
+    public void invalidateAll() {
+        pages.synchronous().invalidateAll();
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private static Page<ApplicationPagined> copy(Page<ApplicationPagined> page) {
+        return new Page<>(
+                page.content().stream().map(ApplicationPageCache::copy).toList(),
+                page.page(),
+                page.size(),
+                page.totalElements(),
+                page.totalPages(),
+                page.hasNext(),
+                page.nextCursor());
+    }
+
+    private static ApplicationPagined copy(ApplicationPagined row) {
+        return ApplicationPagined.builder()
+                .id(row.getId())
+                .amount(row.getAmount())
+                .term(row.getTerm())
+                .email(row.getEmail())
+                .identityDocument(row.getIdentityDocument())
+                .state(row.getState())
+                .loan(row.getLoan())
+                .stateId(row.getStateId())
+                .loanTypeId(row.getLoanTypeId())
+                .fullName(row.getFullName())
+                .baseSalary(row.getBaseSalary())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del caché local de páginas del listado de solicitudes.
+ *
+ * @param enabled si es false cada petición consulta la base
+ * @param ttl     tiempo que se reutiliza una página; acota cuánto tarda en verse una escritura hecha
+ *                por otra instancia o un cambio de estado hecho fuera de este servicio
+ * @param maxSize máximo de páginas retenidas (criterios distintos)
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.page-cache")
+public record ApplicationPageCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5s") Duration ttl,
+        @DefaultValue("500") long maxSize) {
+}
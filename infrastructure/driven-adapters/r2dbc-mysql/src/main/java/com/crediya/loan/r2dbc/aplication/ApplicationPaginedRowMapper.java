@@ -0,0 +1,33 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.BiFunction;
+
+/** Mapea las columnas de {@link ApplicationQueryCompiler#SELECT_COLUMNS} al modelo del listado. */
+final class ApplicationPaginedRowMapper implements BiFunction<Row, RowMetadata, ApplicationPagined> {
+
+    static final ApplicationPaginedRowMapper INSTANCE = new ApplicationPaginedRowMapper();
+
+    private ApplicationPaginedRowMapper() {
+    }
+
+    @Override
+    public ApplicationPagined apply(Row row, RowMetadata metadata) {
+        return ApplicationPagined.builder()
+                .id(row.get("id_solicitud", Long.class))
+                .amount(row.get("monto", BigDecimal.class))
+                .term(row.get("plazo", LocalDate.class))
+                .email(row.get("email", String.class))
+                .identityDocument(row.get("documento_identidad", String.class))
+                .state(row.get("state", String.class))
+                .loan(row.get("loan", String.class))
+                .stateId(row.get("id_estado", Long.class))
+                .loanTypeId(row.get("id_tipo_prestamo", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.model.application.EmailMatchMode;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Traduce {@link PendingApplicationsCriteria} a SQL para {@code DatabaseClient} emitiendo solo los
+ * predicados activos, en lugar de {@code (:x IS NULL OR ...)}, para que MySQL pueda elegir el índice
+ * adecuado a cada combinación de filtros. El texto SQL se arma una vez por forma de predicados
+ * (qué filtros están presentes) y se reutiliza; los valores siempre van como parámetros.
+ */
+@Component
+public class ApplicationQueryCompiler {
+
+    static final String SELECT_COLUMNS = """
+            SELECT s.id_solicitud, s.monto, s.plazo, s.email, s.documento_identidad,
+                   e.nombre AS state, tp.nombre AS loan, s.id_estado, s.id_tipo_prestamo
+            FROM solicitud s
+            INNER JOIN tipo_prestamo tp ON tp.id_tipo_prestamo = s.id_tipo_prestamo
+            INNER JOIN estados e ON e.id_estado = s.id_estado""";
+
+    static final String SELECT_COUNT = "SELECT COUNT(*) FROM solicitud s";
+    // El conteo solo necesita estados cuando se filtra por él; tipo_prestamo no filtra (FK NOT NULL)
+    static final String JOIN_STATES = " INNER JOIN estados e ON e.id_estado = s.id_estado";
+
+    private final Map<Integer, String> dataStatements = new ConcurrentHashMap<>();
+    private final Map<Integer, String> countStatements = new ConcurrentHashMap<>();
+    private final Map<Integer, String> streamStatements = new ConcurrentHashMap<>();
+
+    /** Consulta de la página; {@code limit} puede incluir el registro de más para calcular hasNext. */
+    public CompiledQuery compileData(PendingApplicationsCriteria criteria, int limit) {
+        int shape = shape(criteria, true);
+        String sql = dataStatements.computeIfAbsent(shape, ApplicationQueryCompiler::buildData);
+
+        Map<String, Object> params = params(criteria, shape);
+        params.put("limit", limit);
+        if (!criteria.isCursorMode()) {
+            params.put("offset", (criteria.page() - 1) * criteria.size());
+        }
+        return new CompiledQuery(sql, params);
+    }
+
+    public CompiledQuery compileCount(PendingApplicationsCriteria criteria) {
+        int shape = shape(criteria, false);
+        String sql = countStatements.computeIfAbsent(shape, ApplicationQueryCompiler::buildCount);
+        return new CompiledQuery(sql, params(criteria, shape));
+    }
+
+    /** Consulta completa (sin LIMIT/OFFSET) para exportar; el cursor, si viene, sigue aplicando. */
+    public CompiledQuery compileStream(PendingApplicationsCriteria criteria) {
+        int shape = shape(criteria, true);
+        String sql = streamStatements.computeIfAbsent(shape,
+                s -> SELECT_COLUMNS + where(s) + " ORDER BY s.id_solicitud DESC");
+        return new CompiledQuery(sql, params(criteria, shape));
+    }
+
+    /** Número de sentencias distintas generadas hasta ahora (útil para verificar la reutilización). */
+    int cachedStatements() {
+        return dataStatements.size() + countStatements.size() + streamStatements.size();
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private static int shape(PendingApplicationsCriteria criteria, boolean includeCursor) {
+        int shape = 0;
+        for (Filter filter : Filter.values()) {
+            if (filter == Filter.CURSOR && !includeCursor) continue;
+            if (isActive(filter.value.apply(criteria))) {
+                shape |= 1 << filter.ordinal();
+            }
+        }
+        return shape;
+    }
+
+    private static Map<String, Object> params(PendingApplicationsCriteria criteria, int shape) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (Filter filter : Filter.values()) {
+            if (has(shape, filter)) {
+                Object value = filter.value.apply(criteria);
+                params.put(filter.param, value instanceof String s ? s.trim() : value);
+            }
+        }
+        return params;
+    }
+
+    private static String buildData(int shape) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(where(shape))
+                .append(" ORDER BY s.id_solicitud DESC LIMIT :limit");
+        if (!has(shape, Filter.CURSOR)) {
+            sql.append(" OFFSET :offset");
+        }
+        return sql.toString();
+    }
+
+    private static String buildCount(int shape) {
+        return SELECT_COUNT + joinStates(shape) + where(shape);
+    }
+
+    private static String joinStates(int shape) {
+        return has(shape, Filter.STATE) || has(shape, Filter.STATE_CODES) ? JOIN_STATES : "";
+    }
+
+    private static String where(int shape) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        for (Filter filter : Filter.values()) {
+            if (has(shape, filter)) {
+                where.add(filter.predicate);
+            }
+        }
+        return where.toString();
+    }
+
+    private static boolean has(int shape, Filter filter) {
+        return (shape & (1 << filter.ordinal())) != 0;
+    }
+
+    private static boolean isActive(Object value) {
+        if (value == null) return false;
+        if (value instanceof String s) return !s.isBlank();
+        if (value instanceof Collection<?> c) return !c.isEmpty();
+        return true;
+    }
+
+    private enum Filter {
+        CURSOR("s.id_solicitud < :cursor", "cursor", PendingApplicationsCriteria::cursor),
+        STATE("e.nombre = :state", "state", PendingApplicationsCriteria::state),
+        STATE_CODES("e.codigo IN (:stateCodes)", "stateCodes", PendingApplicationsCriteria::stateCodes),
+        DOCUMENT("s.documento_identidad = :document", "document", PendingApplicationsCriteria::document),
+        EMAIL_EXACT("s.email = :email", "email", c -> email(c, EmailMatchMode.EXACT)),
+        EMAIL_PREFIX("s.email LIKE :emailPrefix", "emailPrefix",
+                c -> withPrefixWildcard(email(c, EmailMatchMode.PREFIX))),
+        EMAIL_FULLTEXT("MATCH(s.email) AGAINST (:emailText IN BOOLEAN MODE)", "emailText",
+                c -> asPhrase(email(c, EmailMatchMode.FULLTEXT))),
+        EMAIL_CONTAINS("s.email LIKE CONCAT('%', :email, '%')", "email", c -> email(c, EmailMatchMode.CONTAINS)),
+        MIN_AMOUNT("s.monto >= :minAmount", "minAmount", PendingApplicationsCriteria::minAmount),
+        MAX_AMOUNT("s.monto <= :maxAmount", "maxAmount", PendingApplicationsCriteria::maxAmount),
+        TERM_FROM("s.plazo >= :termFrom", "termFrom", PendingApplicationsCriteria::termFrom),
+        TERM_TO("s.plazo <= :termTo", "termTo", PendingApplicationsCriteria::termTo),
+        LOAN_TYPES("s.id_tipo_prestamo IN (:loanTypeIds)", "loanTypeIds", PendingApplicationsCriteria::loanTypeIds);
+
+        private final String predicate;
+        private final String param;
+        private final Function<PendingApplicationsCriteria, Object> value;
+
+        Filter(String predicate, String param, Function<PendingApplicationsCriteria, Object> value) {
+            this.predicate = predicate;
+            this.param = param;
+            this.value = value;
+        }
+    }
+
+    private static String email(PendingApplicationsCriteria criteria, EmailMatchMode mode) {
+        String email = criteria.email();
+        if (email == null || email.isBlank()) return null;
+        EmailMatchMode requested = criteria.emailMatch() != null ? criteria.emailMatch() : EmailMatchMode.DEFAULT;
+        return requested == mode ? email.trim() : null;
+    }
+
+    /** Escapa los comodines de LIKE del texto del usuario para que el prefijo sea literal. */
+    static String withPrefixWildcard(String value) {
+        if (value == null) return null;
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    /** Con el parser ngram una frase entre comillas exige los fragmentos en orden. */
+    static String asPhrase(String value) {
+        if (value == null) return null;
+        return '"' + value.replace("\"", "") + '"';
+    }
+
+    /** SQL con parámetros nombrados; las colecciones se expanden en {@code IN (...)} al enlazarlas. */
+    public record CompiledQuery(String sql, Map<String, Object> params) {
+        public CompiledQuery {
+            params = Map.copyOf(params);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.crediya.loan.r2dbc.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Abre las conexiones iniciales del pool al arrancar. Sin esto, el pool las abre todas en la
+ * primera adquisición y la primera petición paga ese costo.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolWarmup {
+
+    private final ConnectionPool pool;
+    private final MysqlConnectionProperties properties;
+
+    public ConnectionPoolWarmup(ConnectionPool pool, MysqlConnectionProperties properties) {
+        this.pool = pool;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        if (!MySQLConnectionPool.pool(properties).warmup()) {
+            return;
+        }
+        pool.warmup().subscribe(
+                opened -> log.info("[connectionPool] Warmup completado: {} conexiones abiertas", opened),
+                err -> log.warn("[connectionPool] Falló el warmup del pool: {}", err.toString()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.crediya.loan.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConnectionPool} que mide la latencia de cada {@code create()} (lo que una consulta espera para
+ * obtener conexión), etiquetada por resultado. El estado del pool (en uso, ociosas, pendientes, máximos)
+ * no se publica aquí: Spring Boot Actuator ya lo expone como {@code r2dbc.pool.*} para todo bean
+ * {@code ConnectionPool}, con la etiqueta {@code name} igual al nombre del bean.
+ */
+public class InstrumentedConnectionPool extends ConnectionPool {
+
+    static final String METRIC_ACQUIRE = "crediya.r2dbc.pool.acquire";
+
+    private final Timer acquireSuccess;
+    private final Timer acquireError;
+
+    /** {@code pool} es la etiqueta de las métricas; normalmente el mismo nombre de la configuración. */
+    public InstrumentedConnectionPool(ConnectionPoolConfiguration configuration, String pool, MeterRegistry registry) {
+        super(configuration);
+        this.acquireSuccess = acquireTimer(registry, pool, "success");
+        this.acquireError = acquireTimer(registry, pool, "error");
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return super.create()
+                    .doOnSuccess(conn -> acquireSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(err -> acquireError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Timer acquireTimer(MeterRegistry registry, String pool, String outcome) {
+        return Timer.builder(METRIC_ACQUIRE)
+                .description("Espera para obtener una conexión del pool")
+                .tag("pool", pool)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -4,55 +4,83 @@ package com.crediya.loan.r2dbc.config;
 import io.asyncer.r2dbc.mysql.MySqlConnectionConfiguration;
 import io.asyncer.r2dbc.mysql.MySqlConnectionFactory;
 import io.asyncer.r2dbc.mysql.constant.SslMode;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 public class MySQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
-    public static final int DEFAULT_PORT = 5432;
+    public static final int DEFAULT_PORT = 3306;
+    public static final String POOL_NAME = "api-mysql-connection-pool";
 
     public MySqlConnectionConfiguration getConnectionConfig(MysqlConnectionProperties properties) {
-        return MySqlConnectionConfiguration.builder()
+        MySqlConnectionConfiguration.Builder builder = MySqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port() != null ? properties.port() : DEFAULT_PORT)
                 .database(properties.database())
                 .username(properties.username())
                 .password(properties.password())
-                .sslMode(SslMode.DISABLED)
+                .sslMode(SslMode.DISABLED);
                 //.connectTimeout(Duration.ofSeconds(5))               // opcional: timeout de conexión
-                // .useServerPrepareStatement()                         // opcional: prepared stmts del lado servidor
                 //.createDatabaseIfNotExist()                          // opcional: crea BD si no existe// Cambia a REQUIRED si usas TLS
-                .build();
+
+        MysqlConnectionProperties.PreparedStatements prepared = preparedStatements(properties);
+        if (prepared.mode() == MysqlConnectionProperties.PrepareMode.SERVER) {
+            // Las consultas con parámetros se preparan en MySQL una vez por conexión y se reutilizan
+            // (listado, conteo, búsquedas por id); las que no tienen parámetros siguen por texto
+            builder.useServerPrepareStatement()
+                    .prepareCacheSize(prepared.cacheSize());
+        } else {
+            builder.useClientPrepareStatement();
+        }
+        return builder.build();
     }
 
 
     @Bean
-    public ConnectionPool connectionPool(MysqlConnectionProperties properties) {
+    public ConnectionPool connectionPool(MysqlConnectionProperties properties, MeterRegistry registry) {
         // Builder de configuración del driver R2DBC para MySQL
         MySqlConnectionConfiguration configuration = getConnectionConfig(properties);
 
         // ConnectionFactory propio del driver MySQL R2DBC
         ConnectionFactory connectionFactory = MySqlConnectionFactory.from(configuration);
 
-        // Configuración del pool (io.r2dbc.pool)
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder(connectionFactory)
-                .name("api-mysql-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
+        return new InstrumentedConnectionPool(
+                poolConfiguration(connectionFactory, pool(properties)), POOL_NAME, registry);
+    }
+
+    /**
+     * Configuración del pool (io.r2dbc.pool). Sin validationQuery: al entregar una conexión se valida
+     * con {@code Connection.validate(depth)}, que en LOCAL no hace un viaje a MySQL como el SELECT 1.
+     */
+    ConnectionPoolConfiguration poolConfiguration(ConnectionFactory connectionFactory,
+                                                  MysqlConnectionProperties.Pool pool) {
+        return ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(POOL_NAME)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.acquireTimeout())
+                .maxCreateConnectionTime(pool.createTimeout())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationDepth(pool.validationDepth())
+                // más allá de este tope las peticiones fallan rápido en lugar de encolarse sin límite
+                .customizer(builder -> builder.maxPendingAcquire(pool.maxPendingAcquires()))
                 .build();
+    }
+
+    static MysqlConnectionProperties.PreparedStatements preparedStatements(MysqlConnectionProperties properties) {
+        return properties.preparedStatements() != null
+                ? properties.preparedStatements()
+                : MysqlConnectionProperties.PreparedStatements.defaults();
+    }
 
-        return new ConnectionPool(poolConfiguration);
+    static MysqlConnectionProperties.Pool pool(MysqlConnectionProperties properties) {
+        return properties.pool() != null ? properties.pool() : MysqlConnectionProperties.Pool.defaults();
     }
 
-}
\ No newline at end of file
+}
@@ -1,7 +1,11 @@
 package com.crediya.loan.r2dbc.config;
 
 // TODO: Load properties from the application.yaml file or from secrets manager
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 
 @ConfigurationProperties(prefix = "adapters.r2dbc")
@@ -10,5 +14,61 @@ public record MysqlConnectionProperties(
         Integer port,
         String database,
         String username,
-        String password) {
+        String password,
+        @DefaultValue Pool pool,
+        @DefaultValue PreparedStatements preparedStatements) {
+
+    /**
+     * Configuración del pool de conexiones ({@code adapters.r2dbc.pool.*}).
+     *
+     * @param initialSize                conexiones que se abren en el warmup
+     * @param maxSize                    máximo de conexiones abiertas
+     * @param maxIdleTime                tiempo máximo ociosa antes de cerrarse
+     * @param maxLifeTime                vida máxima de una conexión (debe ser menor que wait_timeout de MySQL)
+     * @param acquireTimeout             espera máxima para obtener una conexión del pool
+     * @param createTimeout              espera máxima para abrir una conexión nueva
+     * @param maxPendingAcquires         peticiones que pueden esperar conexión; las demás fallan de inmediato
+     * @param backgroundEvictionInterval cada cuánto se retiran en segundo plano las conexiones ociosas o vencidas
+     * @param validationDepth            validación al entregar una conexión: LOCAL (sin ida y vuelta) o REMOTE (ping)
+     * @param warmup                     abre {@code initialSize} conexiones al arrancar y no en la primera petición
+     */
+    public record Pool(
+            @DefaultValue("5") int initialSize,
+            @DefaultValue("15") int maxSize,
+            @DefaultValue("30m") Duration maxIdleTime,
+            @DefaultValue("30m") Duration maxLifeTime,
+            @DefaultValue("5s") Duration acquireTimeout,
+            @DefaultValue("5s") Duration createTimeout,
+            @DefaultValue("200") int maxPendingAcquires,
+            @DefaultValue("30s") Duration backgroundEvictionInterval,
+            @DefaultValue("LOCAL") ValidationDepth validationDepth,
+            @DefaultValue("true") boolean warmup) {
+
+        public static Pool defaults() {
+            return new Pool(5, 15, Duration.ofMinutes(30), Duration.ofMinutes(30), Duration.ofSeconds(5),
+                    Duration.ofSeconds(5), 200, Duration.ofSeconds(30), ValidationDepth.LOCAL, true);
+        }
+    }
+
+    /**
+     * Cómo se ejecutan las consultas con parámetros ({@code adapters.r2dbc.prepared-statements.*}).
+     *
+     * @param mode      SERVER: se preparan en MySQL y se reutilizan por conexión; CLIENT: protocolo de texto,
+     *                  el driver interpola los valores y MySQL analiza el SQL en cada ejecución
+     * @param cacheSize sentencias preparadas retenidas por conexión (LRU); la suma de todas las conexiones
+     *                  debe quedar por debajo de {@code max_prepared_stmt_count} del servidor
+     */
+    public record PreparedStatements(
+            @DefaultValue("SERVER") PrepareMode mode,
+            @DefaultValue("256") int cacheSize) {
+
+        public static PreparedStatements defaults() {
+            return new PreparedStatements(PrepareMode.SERVER, 256);
+        }
+    }
+
+    public enum PrepareMode {
+        CLIENT,
+        SERVER
+    }
 }
@@ -5,11 +5,14 @@ import com.crediya.loan.model.loantype.gateways.LoanTypeRepository;
 import com.crediya.loan.r2dbc.entity.LoanTypeEntity;
 import com.crediya.loan.r2dbc.helper.ReactiveAdapterOperations;
 import com.crediya.loan.r2dbc.lonType.LoanTypeReactiveRepository;
+import com.crediya.loan.r2dbc.mapper.LoanTypeEntityMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 @Slf4j
 @Repository
 public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations<
@@ -20,12 +23,12 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
         > implements LoanTypeRepository {
 
     private final LoanTypeReactiveRepository repository;
-    private final ObjectMapper mapper; // 👈 guardamos el mapper para usarlo aquí
+    private final LoanTypeEntityMapper mapper; // 👈 guardamos el mapper para usarlo aquí
 
     public LoanTypeReactiveRepositoryAdapter(LoanTypeReactiveRepository repository,
-                                             ObjectMapper mapper) {
-        // mapper: de Entity → Domain
-        super(repository, mapper, entity -> mapper.map(entity, LoanType.class));
+                                             LoanTypeEntityMapper mapper) {
+        // mapper: Domain ↔ Entity, sin reflexión
+        super(repository, mapper::toEntity, mapper::toDomain);
         this.repository = repository;
         this.mapper = mapper;
     }
@@ -38,8 +41,19 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
                     log.warn("[loanType.findById] No se encontró id={}", id);
                     return Mono.empty();
                 }))
-                .map(entity -> mapper.map(entity, LoanType.class)) // 👈 mapeo a dominio
+                .map(mapper::toDomain)                           // 👈 mapeo a dominio
                 .doOnNext(lt -> log.debug("[loanType.findById] Se encontró: id={} nombre={}", id, lt.getName()))
                 .doOnError(err -> log.error("[loanType.findById] Error al buscar id={}: {}", id, err.toString()));
     }
+
+    @Override
+    public Flux<LoanType> findAllByIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return repository.findAllById(ids)               // un solo SELECT ... WHERE id IN (...)
+                .map(mapper::toDomain)
+                .doOnComplete(() -> log.debug("[loanType.findAllByIds] Consultados {} ids", ids.size()))
+                .doOnError(err -> log.error("[loanType.findAllByIds] Error al buscar ids={}: {}", ids, err.toString()));
+    }
 }
@@ -0,0 +1,44 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.model.loantype.gateways.LoanTypeRepository;
+import com.crediya.loan.r2dbc.loantype.LoanTypeReactiveRepositoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link LoanTypeRepository} servido desde {@link ReferenceDataCache}. Un id que no está en el
+ * snapshot (p. ej. creado después de la última recarga) se consulta en la base de datos.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachedLoanTypeRepository implements LoanTypeRepository {
+
+    private final ReferenceDataCache cache;
+    private final LoanTypeReactiveRepositoryAdapter delegate;
+
+    @Override
+    public Mono<LoanType> findById(Long loanTypeId) {
+        return Mono.defer(() -> cache.current()
+                .map(snapshot -> snapshot.loanTypesById().get(loanTypeId))
+                .map(Mono::just)
+                .orElseGet(() -> delegate.findById(loanTypeId)));
+    }
+
+    @Override
+    public Flux<LoanType> findAllByIds(Set<Long> loanTypeIds) {
+        return Flux.defer(() -> cache.current()
+                .filter(snapshot -> snapshot.loanTypesById().keySet().containsAll(loanTypeIds))
+                .map(snapshot -> Flux.fromStream(loanTypeIds.stream()
+                        .map(snapshot.loanTypesById()::get)
+                        .filter(Objects::nonNull)))
+                .orElseGet(() -> delegate.findAllByIds(loanTypeIds)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.model.states.States;
+import com.crediya.loan.model.states.gateways.StatesRepository;
+import com.crediya.loan.r2dbc.states.StatesReactiveRepositoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link StatesRepository} servido desde {@link ReferenceDataCache}; un código que no está en el
+ * snapshot se consulta en la base de datos.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachedStatesRepository implements StatesRepository {
+
+    private final ReferenceDataCache cache;
+    private final StatesReactiveRepositoryAdapter delegate;
+
+    @Override
+    public Mono<States> findByCode(String code) {
+        return Mono.defer(() -> cache.current()
+                .map(snapshot -> snapshot.statesByCode().get(code))
+                .map(Mono::just)
+                .orElseGet(() -> delegate.findByCode(code)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.r2dbc.loantype.LoanTypeReactiveRepositoryAdapter;
+import com.crediya.loan.r2dbc.states.StatesReactiveRepositoryAdapter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantiene en memoria las tablas de referencia. Se carga al arrancar la aplicación, se recarga cada
+ * {@code refresh-interval} y bajo demanda desde el endpoint {@code /actuator/referencedata}.
+ * Mientras no haya snapshot (o si está deshabilitado) los repositorios consultan la base de datos.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private final LoanTypeReactiveRepositoryAdapter loanTypes;
+    private final StatesReactiveRepositoryAdapter states;
+    private final ReferenceDataProperties properties;
+    private final Clock clock;
+
+    private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>();
+    private volatile Disposable schedule;
+
+    @Autowired
+    public ReferenceDataCache(LoanTypeReactiveRepositoryAdapter loanTypes,
+                              StatesReactiveRepositoryAdapter states,
+                              ReferenceDataProperties properties) {
+        this(loanTypes, states, properties, Clock.systemUTC());
+    }
+
+    ReferenceDataCache(LoanTypeReactiveRepositoryAdapter loanTypes,
+                       StatesReactiveRepositoryAdapter states,
+                       ReferenceDataProperties properties,
+                       Clock clock) {
+        this.loanTypes = loanTypes;
+        this.states = states;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /** Snapshot vigente; vacío si el caché está deshabilitado o todavía no se cargó. */
+    public Optional<ReferenceDataSnapshot> current() {
+        return properties.enabled() ? Optional.ofNullable(snapshot.get()) : Optional.empty();
+    }
+
+    /** Lee las dos tablas completas y reemplaza el snapshot de forma atómica. */
+    public Mono<ReferenceDataSnapshot> refresh() {
+        return Mono.zip(loanTypes.findAll().collectList(), states.findAll().collectList())
+                .map(tables -> ReferenceDataSnapshot.of(tables.getT1(), tables.getT2(), clock.instant()))
+                .doOnNext(loaded -> {
+                    snapshot.set(loaded);
+                    log.info("[referenceData] Snapshot cargado: {} tipos de préstamo, {} estados",
+                            loaded.loanTypesById().size(), loaded.statesById().size());
+                })
+                .doOnError(err -> log.warn("[referenceData] Falló la recarga: {}", err.toString()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("[referenceData] Caché deshabilitado, se consulta la base de datos");
+            return;
+        }
+        // Primera carga inmediata y luego periódica; un fallo conserva el snapshot anterior
+        schedule = Flux.interval(Duration.ZERO, properties.refreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(err -> Mono.empty()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = schedule;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/referencedata} muestra el snapshot vigente;
+ * {@code POST /actuator/referencedata} fuerza una recarga (p. ej. después de cambiar un tipo de préstamo).
+ */
+@Component
+@Endpoint(id = "referencedata")
+@RequiredArgsConstructor
+public class ReferenceDataEndpoint {
+
+    private final ReferenceDataCache cache;
+
+    @ReadOperation
+    public Map<String, Object> snapshot() {
+        return cache.current()
+                .map(ReferenceDataEndpoint::describe)
+                .orElseGet(() -> Map.of("loaded", false));
+    }
+
+    @WriteOperation
+    public Mono<Map<String, Object>> refresh() {
+        return cache.refresh().map(ReferenceDataEndpoint::describe);
+    }
+
+    private static Map<String, Object> describe(ReferenceDataSnapshot snapshot) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("loaded", true);
+        body.put("loadedAt", snapshot.loadedAt().toString());
+        body.put("loanTypes", snapshot.loanTypesById().size());
+        body.put("states", snapshot.statesById().size());
+        return body;
+    }
+}
@@ -0,0 +1,18 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del caché de datos de referencia (tipos de préstamo y estados).
+ *
+ * @param enabled         activa/desactiva el caché (si es false se consulta siempre la base de datos)
+ * @param refreshInterval cada cuánto se recargan las tablas completas
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.reference-data")
+public record ReferenceDataProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration refreshInterval) {
+}
@@ -0,0 +1,37 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.model.states.States;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Copia inmutable de {@code tipo_prestamo} y {@code estados}. Se construye completa fuera de línea
+ * y se publica de una vez, así que un lector nunca ve una recarga a medias.
+ */
+public record ReferenceDataSnapshot(
+        Map<Long, LoanType> loanTypesById,
+        Map<Long, States> statesById,
+        Map<String, States> statesByCode,
+        Instant loadedAt) {
+
+    public static ReferenceDataSnapshot of(List<LoanType> loanTypes, List<States> states, Instant loadedAt) {
+        return new ReferenceDataSnapshot(
+                index(loanTypes, LoanType::getId),
+                index(states, States::getId),
+                index(states.stream().filter(s -> s.getCode() != null).toList(), States::getCode),
+                loadedAt);
+    }
+
+    // HashMap y no Map.copyOf: get(null) debe devolver null en lugar de lanzar NPE
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+        return Collections.unmodifiableMap(values.stream()
+                .collect(Collectors.toMap(key, Function.identity(), (a, b) -> a, HashMap::new)));
+    }
+}
@@ -1,12 +1,11 @@
 package com.crediya.loan.r2dbc.states;
 
-import com.crediya.loan.model.loantype.LoanType;
 import com.crediya.loan.model.states.States;
 import com.crediya.loan.model.states.gateways.StatesRepository;
 import com.crediya.loan.r2dbc.entity.StatesEntity;
 import com.crediya.loan.r2dbc.helper.ReactiveAdapterOperations;
+import com.crediya.loan.r2dbc.mapper.StatesEntityMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
@@ -20,12 +19,14 @@ public class  StatesReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         > implements StatesRepository {
 
     private final StatesReactiveRepository repository;
+    private final StatesEntityMapper mapper;
 
     public StatesReactiveRepositoryAdapter(StatesReactiveRepository repository,
-                                             ObjectMapper mapper) {
-        // mapper: de Entity → Domain
-        super(repository, mapper, entity -> mapper.map(entity, States.class));
+                                             StatesEntityMapper mapper) {
+        // mapper: Domain ↔ Entity, sin reflexión
+        super(repository, mapper::toEntity, mapper::toDomain);
         this.repository = repository;
+        this.mapper = mapper;
     }
 
 
@@ -33,6 +34,6 @@ public class  StatesReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     @Override
     public Mono<States> findByCode(String code) {
         return  repository.findByCode(code)
-                .map(entity -> mapper.map(entity, States.class));
+                .map(mapper::toDomain);
     }
 }
@@ -2,12 +2,12 @@ package com.crediya.loan.r2dbc;
 
 import com.crediya.loan.r2dbc.aplication.AplicationReactiveRepository;
 import com.crediya.loan.r2dbc.aplication.AplicationReactiveRepositoryAdapter;
+import com.crediya.loan.r2dbc.mapper.AplicationEntityMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.data.domain.Example;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -28,7 +28,7 @@ class MyReactiveRepositoryAdapterTest {
     AplicationReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    AplicationEntityMapper mapper;
 
 //    @Test
 //    void mustFindValueById() {
@@ -2,24 +2,37 @@ package com.crediya.loan.r2dbc.aplication;
 
 import com.crediya.loan.model.application.Application;
 import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.CountMode;
 import com.crediya.loan.model.application.PendingApplicationsCriteria;
 import com.crediya.loan.model.shared.Page;
+import com.crediya.loan.model.shared.Stage;
+import com.crediya.loan.model.shared.gateways.StageTimer;
 import com.crediya.loan.r2dbc.entity.ApplicationEntity;
 import com.crediya.loan.r2dbc.mapper.AplicationEntityMapper;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
+import org.reactivestreams.Publisher;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,7 +43,6 @@ class AplicationReactiveRepositoryAdapterTest {
 
     @Mock AplicationReactiveRepository repository;
     @Mock AplicationEntityMapper aplicationEntityMapper;
-    @Mock ObjectMapper mapper;
     @Mock DatabaseClient db;
 
     // lo instanciamos explícito para usar el ctor con DatabaseClient
@@ -38,7 +50,13 @@ class AplicationReactiveRepositoryAdapterTest {
 
     @BeforeEach
     void init() {
-        adapter = new AplicationReactiveRepositoryAdapter(repository, aplicationEntityMapper, mapper, db);
+        adapter = new AplicationReactiveRepositoryAdapter(repository, aplicationEntityMapper, db,
+                new ApplicationCountCache(new ApplicationCountProperties(Duration.ofSeconds(30), 100)),
+                // el caché de páginas se prueba aparte (ApplicationPageCacheTest y los casos "pageCache")
+                new ApplicationPageCache(new ApplicationPageCacheProperties(false, Duration.ofSeconds(30), 100)),
+                new ApplicationQueryCompiler(),
+                new ApplicationExportProperties(250),
+                StageTimer.NOOP);
     }
 
     private Application buildApplication(String email, BigDecimal amount) {
@@ -114,59 +132,356 @@ class AplicationReactiveRepositoryAdapterTest {
         verifyNoMoreInteractions(repository);
     }
 
+    // ---------- saveAll -----------
+
+    @SuppressWarnings("unchecked")
+    private Connection stubConnection(Statement statement) {
+        Connection connection = mock(Connection.class);
+        doReturn(Mono.empty()).when(connection).beginTransaction();
+        lenient().doReturn(Mono.empty()).when(connection).commitTransaction();
+        lenient().doReturn(Mono.empty()).when(connection).rollbackTransaction();
+        when(connection.createStatement(AplicationReactiveRepositoryAdapter.INSERT_APPLICATION)).thenReturn(statement);
+        when(db.inConnectionMany(any())).thenAnswer(inv ->
+                Flux.from(((Function<Connection, Publisher<Application>>) inv.getArgument(0)).apply(connection)));
+        return connection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result generatedId(long id) {
+        Result result = mock(Result.class);
+        doReturn(Flux.just(id)).when(result).map(any(BiFunction.class));
+        return result;
+    }
+
+    @Test
+    void saveAll_singleStatementWithOneBindingPerApplication_inTransaction() {
+        Statement statement = mock(Statement.class, RETURNS_SELF);
+        doReturn(Flux.just(generatedId(10L), generatedId(11L))).when(statement).execute();
+        Connection connection = stubConnection(statement);
+        var apps = List.of(buildApplication("a@mail.com", BigDecimal.valueOf(5000)),
+                buildApplication("b@mail.com", BigDecimal.valueOf(7000)));
+
+        StepVerifier.create(adapter.saveAll(apps))
+                .expectNextMatches(a -> a.getId() == 10L && "a@mail.com".equals(a.getEmail()))
+                .expectNextMatches(a -> a.getId() == 11L && "b@mail.com".equals(a.getEmail()))
+                .verifyComplete();
+
+        verify(connection, times(1)).createStatement(anyString());
+        verify(statement, times(1)).add();
+        verify(statement, times(1)).execute();
+        verify(connection).commitTransaction();
+        verify(connection, never()).rollbackTransaction();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void saveAll_insertError_rollsBackAndPropagates() {
+        Statement statement = mock(Statement.class, RETURNS_SELF);
+        doReturn(Flux.error(new RuntimeException("Duplicate"))).when(statement).execute();
+        Connection connection = stubConnection(statement);
+
+        StepVerifier.create(adapter.saveAll(List.of(buildApplication("a@mail.com", BigDecimal.valueOf(5000)))))
+                .expectErrorMessage("Duplicate")
+                .verify();
+
+        verify(connection).rollbackTransaction();
+        verify(connection, never()).commitTransaction();
+    }
+
+    @Test
+    void saveAll_emptyList_doesNotTouchDatabase() {
+        StepVerifier.create(adapter.saveAll(List.of())).verifyComplete();
+
+        verifyNoInteractions(db);
+    }
+
     // ---------- findApplicationsPaginated -----------
 
+    @SuppressWarnings("unchecked")
+    private DatabaseClient.GenericExecuteSpec stubData(Flux<ApplicationPagined> rows) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        RowsFetchSpec<ApplicationPagined> fetch = mock(RowsFetchSpec.class);
+        when(db.sql(startsWith("SELECT s.id_solicitud"))).thenReturn(spec);
+        doReturn(fetch).when(spec).map(any(BiFunction.class));
+        when(fetch.all()).thenReturn(rows);
+        return spec;
+    }
 
+    @SuppressWarnings("unchecked")
+    private DatabaseClient.GenericExecuteSpec stubCount(Mono<Long> total) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        RowsFetchSpec<Long> fetch = mock(RowsFetchSpec.class);
+        lenient().when(db.sql(startsWith("SELECT COUNT"))).thenReturn(spec);
+        lenient().doReturn(fetch).when(spec).map(any(BiFunction.class));
+        lenient().when(fetch.one()).thenReturn(total);
+        return spec;
+    }
 
     @Test
     void findApplicationsPaginated_emptyResult_shouldReturnEmptyPage() {
-        PendingApplicationsCriteria criteria = mock(PendingApplicationsCriteria.class);
-        when(criteria.page()).thenReturn(1);
-        when(criteria.size()).thenReturn(5);
-        when(criteria.state()).thenReturn(null);
-        when(criteria.document()).thenReturn(null);
-        when(criteria.email()).thenReturn(null);
-
-        when(repository.dataApplicationPagined(null, null, null, 5, 0))
-                .thenReturn(Flux.empty());
-        when(repository.countApplications(null, null, null))
-                .thenReturn(Mono.just(0L));
+        var criteria = new PendingApplicationsCriteria(null, null, null, 1, 5);
+        var data = stubData(Flux.empty());
+        stubCount(Mono.just(0L));
 
         StepVerifier.create(adapter.findApplicationsPaginated(criteria))
                 .assertNext(page -> {
                     assertEquals(1, page.page());
                     assertEquals(5, page.size());
-                    assertEquals(0L, page.totalPages());
+                    assertEquals(0, page.totalPages());
                     assertTrue(page.content().isEmpty());
                 })
                 .verifyComplete();
 
-        verify(repository).dataApplicationPagined(null, null, null, 5, 0);
-        verify(repository).countApplications(null, null, null);
+        verify(data).bind("limit", 5);
+        verify(data).bind("offset", 0);
+        verify(db).sql(startsWith("SELECT COUNT"));
     }
 
     @Test
     void findApplicationsPaginated_repoError_shouldPropagate() {
-        PendingApplicationsCriteria criteria = mock(PendingApplicationsCriteria.class);
-        when(criteria.page()).thenReturn(1);
-        when(criteria.size()).thenReturn(10);
-        when(criteria.state()).thenReturn("PEN");
-        when(criteria.document()).thenReturn("123");
-        when(criteria.email()).thenReturn("a@b.com");
-
-        when(repository.dataApplicationPagined(any(), any(), any(), anyInt(), anyInt()))
-                .thenReturn(Flux.error(new RuntimeException("DB error")));
-
-        // aunque countApplications devolviera algo, el zip fallará por el error del Flux
-        when(repository.countApplications(any(), any(), any()))
-                .thenReturn(Mono.just(10L));
+        var criteria = new PendingApplicationsCriteria("PEN", "123", "a@b.com", 1, 10);
+        var data = stubData(Flux.error(new RuntimeException("DB error")));
+        // aunque el COUNT devolviera algo, el zip fallará por el error del Flux
+        stubCount(Mono.just(10L));
 
         StepVerifier.create(adapter.findApplicationsPaginated(criteria))
                 .expectErrorMatches(ex -> ex instanceof RuntimeException &&
                         ex.getMessage().equals("DB error"))
                 .verify();
 
-        verify(repository).dataApplicationPagined("PEN", "123", "a@b.com", 10, 0);
-        verify(repository).countApplications("PEN", "123", "a@b.com");
+        verify(data).bind("state", "PEN");
+        verify(data).bind("document", "123");
+        verify(data).bind("emailPrefix", "a@b.com%");
+    }
+
+    @Test
+    void findApplicationsPaginated_cursorMode_seeksByIdAndReturnsNextCursor() {
+        var criteria = new PendingApplicationsCriteria("PEN", null, null, 1, 2, 50L);
+        var a = ApplicationPagined.builder().id(49L).build();
+        var b = ApplicationPagined.builder().id(47L).build();
+        var extra = ApplicationPagined.builder().id(45L).build();
+
+        var data = stubData(Flux.just(a, b, extra));
+        stubCount(Mono.just(10L));
+
+        StepVerifier.create(adapter.findApplicationsPaginated(criteria))
+                .assertNext(page -> {
+                    assertEquals(2, page.content().size());
+                    assertTrue(page.hasNext());
+                    assertEquals(47L, page.nextCursor());
+                })
+                .verifyComplete();
+
+        // se pide un registro de más para saber si hay página siguiente, sin OFFSET
+        verify(data).bind("cursor", 50L);
+        verify(data).bind("limit", 3);
+        verify(data, never()).bind(eq("offset"), any());
+    }
+
+    @Test
+    void findApplicationsPaginated_lastPartialPage_hasNoNextCursor() {
+        var criteria = new PendingApplicationsCriteria(null, null, null, 1, 5, 50L);
+        stubData(Flux.just(ApplicationPagined.builder().id(3L).build()));
+        stubCount(Mono.just(1L));
+
+        StepVerifier.create(adapter.findApplicationsPaginated(criteria))
+                .assertNext(page -> {
+                    assertFalse(page.hasNext());
+                    assertNull(page.nextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findApplicationsPaginated_richFilters_bindsOnlyActivePredicates() {
+        var criteria = PendingApplicationsCriteria.builder()
+                .page(1).size(10)
+                .countMode(CountMode.NONE)
+                .minAmount(new BigDecimal("1000"))
+                .loanTypeIds(Set.of(1L, 2L))
+                .build();
+        var data = stubData(Flux.empty());
+
+        StepVerifier.create(adapter.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+
+        verify(data).bind("minAmount", new BigDecimal("1000"));
+        verify(data).bind("loanTypeIds", Set.of(1L, 2L));
+        verify(data, never()).bind(eq("state"), any());
+        verify(data, never()).bind(eq("email"), any());
+    }
+
+    // ---------- count modes -----------
+
+    @Test
+    void findApplicationsPaginated_countNone_skipsCountAndUsesLookAhead() {
+        var criteria = new PendingApplicationsCriteria(null, null, null, 1, 2, null, CountMode.NONE);
+        var data = stubData(Flux.just(
+                ApplicationPagined.builder().id(9L).build(),
+                ApplicationPagined.builder().id(8L).build(),
+                ApplicationPagined.builder().id(7L).build()));
+
+        StepVerifier.create(adapter.findApplicationsPaginated(criteria))
+                .assertNext(page -> {
+                    assertEquals(2, page.content().size());
+                    assertTrue(page.hasNext());
+                    assertNull(page.totalElements());
+                    assertNull(page.totalPages());
+                })
+                .verifyComplete();
+
+        verify(data).bind("limit", 3);
+        verify(db, never()).sql(startsWith("SELECT COUNT"));
+    }
+
+    @Test
+    void findApplicationsPaginated_countCached_reusesTotalForSameFilters() {
+        AtomicInteger counts = new AtomicInteger();
+        stubData(Flux.empty());
+        stubCount(Mono.fromSupplier(() -> {
+            counts.incrementAndGet();
+            return 42L;
+        }));
+
+        StepVerifier.create(adapter.findApplicationsPaginated(
+                        new PendingApplicationsCriteria("PEN", null, null, 1, 10, null, CountMode.CACHED)))
+                .assertNext(page -> assertEquals(42L, page.totalElements()))
+                .verifyComplete();
+        StepVerifier.create(adapter.findApplicationsPaginated(
+                        new PendingApplicationsCriteria("PEN", null, null, 2, 10, null, CountMode.CACHED)))
+                .assertNext(page -> {
+                    assertEquals(42L, page.totalElements());
+                    assertTrue(page.hasNext());
+                })
+                .verifyComplete();
+
+        // el COUNT solo se ejecuta en el primer miss
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void findApplicationsPaginated_countExact_alwaysCounts() {
+        AtomicInteger counts = new AtomicInteger();
+        var criteria = new PendingApplicationsCriteria(null, null, null, 1, 10, null, CountMode.EXACT);
+        stubData(Flux.empty());
+        stubCount(Mono.fromSupplier(() -> (long) counts.incrementAndGet()));
+
+        StepVerifier.create(adapter.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+
+        assertEquals(2, counts.get());
+    }
+
+    // ---------- pageCache -----------
+
+    private AplicationReactiveRepositoryAdapter adapterWithPageCache() {
+        return adapterWithPageCache(StageTimer.NOOP);
+    }
+
+    private AplicationReactiveRepositoryAdapter adapterWithPageCache(StageTimer stageTimer) {
+        return new AplicationReactiveRepositoryAdapter(repository, aplicationEntityMapper, db,
+                new ApplicationCountCache(new ApplicationCountProperties(Duration.ofSeconds(30), 100)),
+                new ApplicationPageCache(new ApplicationPageCacheProperties(true, Duration.ofSeconds(30), 100)),
+                new ApplicationQueryCompiler(),
+                new ApplicationExportProperties(250),
+                stageTimer);
+    }
+
+    /** Anota cada etapa en la lista del contexto de la petición, como hace el timer real con Server-Timing. */
+    private static final StageTimer CONTEXT_RECORDER = new StageTimer() {
+        @Override
+        public <T> Mono<T> time(Stage stage, Mono<T> source) {
+            return Mono.deferContextual(ctx -> {
+                ctx.<List<Stage>>get(Stage.class).add(stage);
+                return source;
+            });
+        }
+
+        @Override
+        public <T> Flux<T> time(Stage stage, Flux<T> source) {
+            return Flux.deferContextual(ctx -> {
+                ctx.<List<Stage>>get(Stage.class).add(stage);
+                return source;
+            });
+        }
+    };
+
+    @Test
+    void pageCache_sameCriteria_queriesOnceUntilASaveInvalidatesIt() {
+        var cached = adapterWithPageCache();
+        var criteria = PendingApplicationsCriteria.builder().page(1).size(10).stateCodes(Set.of("PEN")).build();
+        stubData(Flux.just(ApplicationPagined.builder().id(7L).build()));
+        stubCount(Mono.just(1L));
+
+        StepVerifier.create(cached.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cached.findApplicationsPaginated(criteria))
+                .assertNext(page -> assertEquals(7L, page.content().get(0).getId()))
+                .verifyComplete();
+
+        // un acierto no llega a la base: ni página ni conteo
+        verify(db, times(1)).sql(startsWith("SELECT s.id_solicitud"));
+        verify(db, times(1)).sql(startsWith("SELECT COUNT"));
+
+        var application = buildApplication("nueva@mail.com", BigDecimal.valueOf(5000));
+        var entity = buildApplicationEntity(null, "nueva@mail.com");
+        when(aplicationEntityMapper.toEntity(application)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(Mono.just(entity));
+        when(aplicationEntityMapper.toDomain(entity)).thenReturn(application);
+        StepVerifier.create(cached.save(application)).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(cached.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+
+        verify(db, times(2)).sql(startsWith("SELECT s.id_solicitud"));
+        verify(db, times(2)).sql(startsWith("SELECT COUNT"));
+    }
+
+    @Test
+    void pageCache_countNoneCursorPage_neverCounts() {
+        var cached = adapterWithPageCache();
+        var criteria = new PendingApplicationsCriteria(null, null, null, 1, 2, 50L, CountMode.NONE);
+        stubData(Flux.just(ApplicationPagined.builder().id(49L).build()));
+
+        StepVerifier.create(cached.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cached.findApplicationsPaginated(criteria)).expectNextCount(1).verifyComplete();
+
+        verify(db, times(1)).sql(startsWith("SELECT s.id_solicitud"));
+        verify(db, never()).sql(startsWith("SELECT COUNT"));
+    }
+
+    @Test
+    void pageCache_missesAreTimedInTheCallerContext() {
+        var cached = adapterWithPageCache(CONTEXT_RECORDER);
+        var criteria = PendingApplicationsCriteria.builder()
+                .page(1).size(10).stateCodes(Set.of("PEN")).countMode(CountMode.CACHED).build();
+        stubData(Flux.just(ApplicationPagined.builder().id(7L).build()));
+        stubCount(Mono.just(1L));
+        List<Stage> stages = new CopyOnWriteArrayList<>();
+
+        StepVerifier.create(cached.findApplicationsPaginated(criteria).contextWrite(ctx -> ctx.put(Stage.class, stages)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertTrue(stages.containsAll(List.of(Stage.PAGE_QUERY, Stage.COUNT_QUERY)), stages::toString);
+    }
+
+    // ---------- streamApplications -----------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamApplications_appliesFetchSizeAndStreamsWithoutLimit() {
+        var criteria = PendingApplicationsCriteria.builder().page(1).size(10).document("123").build();
+        var data = stubData(Flux.range(1, 1000).map(i -> ApplicationPagined.builder().id((long) i).build()));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        StepVerifier.create(adapter.streamApplications(criteria), 0)
+                .thenRequest(10)
+                .expectNextCount(10)
+                .thenRequest(990)
+                .expectNextCount(990)
+                .verifyComplete();
+
+        verify(db).sql(sql.capture());
+        assertFalse(sql.getValue().contains("LIMIT"));
+        verify(data).bind("document", "123");
+        verify(data).filter(any(java.util.function.Function.class));
     }
 }
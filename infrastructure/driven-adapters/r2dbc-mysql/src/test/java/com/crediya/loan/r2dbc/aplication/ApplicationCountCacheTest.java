@@ -0,0 +1,59 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.r2dbc.aplication.ApplicationQueryCompiler.CompiledQuery;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationCountCacheTest {
+
+    private static final CompiledQuery COUNT = new CompiledQuery(
+            "SELECT COUNT(*) FROM solicitud s WHERE s.id_estado = :state", Map.of("state", 1L));
+
+    private final ApplicationCountCache cache =
+            new ApplicationCountCache(new ApplicationCountProperties(Duration.ofSeconds(30), 100));
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @Test
+    void cancellingOneWaiter_doesNotFailTheOthers() {
+        Sinks.One<Long> total = Sinks.one();
+        Mono<Long> counter = Mono.defer(() -> {
+            counts.incrementAndGet();
+            return total.asMono();
+        });
+
+        var cancelled = cache.get(COUNT, () -> counter).subscribe();
+        StepVerifier.create(cache.get(COUNT, () -> counter))
+                .then(() -> {
+                    cancelled.dispose();
+                    total.tryEmitValue(42L);
+                })
+                .expectNext(42L)
+                .verifyComplete();
+
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void theCountRunsWithTheCallerContext() {
+        Mono<Long> counter = Mono.deferContextual(ctx -> Mono.just(ctx.getOrDefault("request", 0L)));
+
+        StepVerifier.create(cache.get(COUNT, () -> counter).contextWrite(ctx -> ctx.put("request", 7L)))
+                .expectNext(7L)
+                .verifyComplete();
+    }
+
+    @Test
+    void errorsAreNotCached() {
+        StepVerifier.create(cache.get(COUNT, () -> Mono.error(new IllegalStateException("db"))))
+                .verifyErrorMessage("db");
+        StepVerifier.create(cache.get(COUNT, () -> Mono.just(5L))).expectNext(5L).verifyComplete();
+    }
+}
@@ -0,0 +1,138 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.CountMode;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.model.shared.Page;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationPageCacheTest {
+
+    private static final PendingApplicationsCriteria FIRST_PAGE = PendingApplicationsCriteria.builder()
+            .page(1).size(10).state("Pendiente de revisión").build();
+
+    private final ApplicationPageCache cache = cache(true);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static ApplicationPageCache cache(boolean enabled) {
+        return new ApplicationPageCache(new ApplicationPageCacheProperties(enabled, Duration.ofSeconds(30), 100));
+    }
+
+    private Mono<Page<ApplicationPagined>> load() {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return Page.of(List.of(ApplicationPagined.builder().id(7L).identityDocument("CC7").build()), 1, 10, 1);
+        });
+    }
+
+    @Test
+    void sameCriteria_loadsOnce() {
+        StepVerifier.create(cache.page(FIRST_PAGE, this::load)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.page(FIRST_PAGE, this::load))
+                .assertNext(page -> assertEquals("CC7", page.content().get(0).getIdentityDocument()))
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void otherCriteria_loadAgain() {
+        cache.page(FIRST_PAGE, this::load).block();
+        cache.page(FIRST_PAGE.toBuilder().page(2).build(), this::load).block();
+        cache.page(FIRST_PAGE.toBuilder().countMode(CountMode.NONE).build(), this::load).block();
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void concurrentMisses_shareASingleLoad() {
+        Mono<Page<ApplicationPagined>> slow = Mono.delay(Duration.ofMillis(50)).then(load());
+
+        StepVerifier.create(Flux.range(0, 20).flatMap(i -> cache.page(FIRST_PAGE, () -> slow)))
+                .expectNextCount(20)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void cancellingOneWaiter_doesNotFailTheOthers() {
+        Sinks.One<Page<ApplicationPagined>> result = Sinks.one();
+        Mono<Page<ApplicationPagined>> slow = Mono.defer(() -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        });
+
+        var cancelled = cache.page(FIRST_PAGE, () -> slow).subscribe();
+        StepVerifier.create(cache.page(FIRST_PAGE, () -> slow))
+                .then(() -> {
+                    cancelled.dispose();
+                    result.tryEmitValue(Page.of(List.of(ApplicationPagined.builder().id(7L).build()), 1, 10, 1));
+                })
+                .assertNext(page -> assertEquals(7L, page.content().get(0).getId()))
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void loadsRunWithTheCallerContext() {
+        Mono<Page<ApplicationPagined>> page = Mono.deferContextual(ctx -> Mono.just(
+                Page.of(List.of(ApplicationPagined.builder().id(ctx.<Long>get("request")).build()), 1, 10, 1)));
+
+        StepVerifier.create(cache.page(FIRST_PAGE, () -> page).contextWrite(ctx -> ctx.put("request", 7L)))
+                .assertNext(p -> assertEquals(7L, p.content().get(0).getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void errorsAreNotCached() {
+        StepVerifier.create(cache.page(FIRST_PAGE, () -> Mono.error(new IllegalStateException("db"))))
+                .verifyErrorMessage("db");
+        StepVerifier.create(cache.page(FIRST_PAGE, this::load)).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void callersGetCopies_soEnrichmentDoesNotLeakIntoTheCache() {
+        Page<ApplicationPagined> first = cache.page(FIRST_PAGE, this::load).block();
+        first.content().get(0).setFullName("Ana Díaz");
+
+        Page<ApplicationPagined> second = cache.page(FIRST_PAGE, this::load).block();
+
+        assertNull(second.content().get(0).getFullName());
+        assertNotSame(first.content().get(0), second.content().get(0));
+    }
+
+    @Test
+    void invalidateAll_dropsPages() {
+        cache.page(FIRST_PAGE, this::load).block();
+
+        cache.invalidateAll();
+        cache.page(FIRST_PAGE, this::load).block();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void disabled_alwaysLoads() {
+        ApplicationPageCache disabled = cache(false);
+
+        disabled.page(FIRST_PAGE, this::load).block();
+        disabled.page(FIRST_PAGE, this::load).block();
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(2, loads.get());
+    }
+}
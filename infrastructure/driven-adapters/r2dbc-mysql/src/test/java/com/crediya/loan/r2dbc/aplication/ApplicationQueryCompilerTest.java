@@ -0,0 +1,110 @@
+package com.crediya.loan.r2dbc.aplication;
+
+import com.crediya.loan.model.application.EmailMatchMode;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationQueryCompilerTest {
+
+    private final ApplicationQueryCompiler compiler = new ApplicationQueryCompiler();
+
+    @Test
+    void compileData_withoutFilters_hasNoWhereAndUsesOffset() {
+        var query = compiler.compileData(new PendingApplicationsCriteria(null, null, null, 3, 10), 10);
+
+        assertFalse(query.sql().contains("WHERE"));
+        assertFalse(query.sql().contains("IS NULL"));
+        assertTrue(query.sql().endsWith("ORDER BY s.id_solicitud DESC LIMIT :limit OFFSET :offset"));
+        assertEquals(10, query.params().get("limit"));
+        assertEquals(20, query.params().get("offset"));
+    }
+
+    @Test
+    void compileData_emitsOnlyActivePredicates() {
+        var criteria = PendingApplicationsCriteria.builder()
+                .page(1).size(10)
+                .state("  ")
+                .document("123")
+                .minAmount(new BigDecimal("500"))
+                .termTo(LocalDate.of(2026, 1, 1))
+                .stateCodes(Set.of("PEN", "REV"))
+                .build();
+
+        var query = compiler.compileData(criteria, 10);
+
+        assertTrue(query.sql().contains("s.documento_identidad = :document"));
+        assertTrue(query.sql().contains("s.monto >= :minAmount"));
+        assertTrue(query.sql().contains("s.plazo <= :termTo"));
+        assertTrue(query.sql().contains("e.codigo IN (:stateCodes)"));
+        assertFalse(query.sql().contains(":state "), "un estado en blanco no se filtra");
+        assertFalse(query.sql().contains(":email"));
+        assertFalse(query.sql().contains(":loanTypeIds"));
+        assertEquals(Set.of("document", "minAmount", "termTo", "stateCodes", "limit", "offset"), query.params().keySet());
+    }
+
+    @Test
+    void compileData_cursorMode_seeksWithoutOffset() {
+        var query = compiler.compileData(new PendingApplicationsCriteria(null, null, null, 1, 10, 99L), 11);
+
+        assertTrue(query.sql().contains("s.id_solicitud < :cursor"));
+        assertFalse(query.sql().contains("OFFSET"));
+        assertEquals(99L, query.params().get("cursor"));
+        assertFalse(query.params().containsKey("offset"));
+    }
+
+    @Test
+    void compileCount_ignoresCursorAndJoinsStatesOnlyWhenNeeded() {
+        var byDocument = compiler.compileCount(new PendingApplicationsCriteria(null, "123", null, 1, 10, 99L));
+        var byState = compiler.compileCount(new PendingApplicationsCriteria("PENDIENTE", null, null, 1, 10));
+
+        assertEquals("SELECT COUNT(*) FROM solicitud s WHERE s.documento_identidad = :document", byDocument.sql());
+        assertFalse(byDocument.params().containsKey("cursor"));
+        assertTrue(byState.sql().contains("INNER JOIN estados"));
+        assertFalse(byState.sql().contains("tipo_prestamo"));
+    }
+
+    @Test
+    void sameShape_reusesStatementText() {
+        var first = compiler.compileData(new PendingApplicationsCriteria("A", null, null, 1, 10), 10);
+        var second = compiler.compileData(new PendingApplicationsCriteria("B", null, null, 2, 10), 10);
+
+        assertSame(first.sql(), second.sql());
+        assertEquals(1, compiler.cachedStatements());
+        assertNotEquals(first, second);
+    }
+
+    // ---------- email ----------
+
+    private PendingApplicationsCriteria byEmail(String email, EmailMatchMode mode) {
+        return PendingApplicationsCriteria.builder().page(1).size(10).email(email).emailMatch(mode).build();
+    }
+
+    @Test
+    void email_defaultsToIndexablePrefixWithEscapedWildcards() {
+        var query = compiler.compileData(byEmail("ana_d%", null), 10);
+
+        assertTrue(query.sql().contains("s.email LIKE :emailPrefix"));
+        assertFalse(query.sql().contains("CONCAT('%'"));
+        assertEquals("ana\\_d\\%%", query.params().get("emailPrefix"));
+    }
+
+    @Test
+    void email_exactFulltextAndContains_emitTheirOwnPredicate() {
+        var exact = compiler.compileData(byEmail("a@b.com", EmailMatchMode.EXACT), 10);
+        var fulltext = compiler.compileData(byEmail("gmail", EmailMatchMode.FULLTEXT), 10);
+        var contains = compiler.compileData(byEmail("gmail", EmailMatchMode.CONTAINS), 10);
+
+        assertTrue(exact.sql().contains("s.email = :email"));
+        assertEquals("a@b.com", exact.params().get("email"));
+        assertTrue(fulltext.sql().contains("MATCH(s.email) AGAINST (:emailText IN BOOLEAN MODE)"));
+        assertEquals("\"gmail\"", fulltext.params().get("emailText"));
+        assertTrue(contains.sql().contains("s.email LIKE CONCAT('%', :email, '%')"));
+        assertEquals(3, compiler.cachedStatements());
+    }
+}
@@ -1,27 +1,34 @@
 package com.crediya.loan.r2dbc.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class MySQLConnectionPoolTest {
 
     private MySQLConnectionPool pool;         // SUT (lo haremos spy para verificar llamada a getConnectionConfig)
     private MysqlConnectionProperties properties;
+    private SimpleMeterRegistry registry;
 
     @BeforeEach
     void setUp() {
-        // Mock de properties
-        properties = Mockito.mock(MysqlConnectionProperties.class);
-        when(properties.host()).thenReturn("localhost");
-        when(properties.port()).thenReturn(5432);   // usa tu DEFAULT_PORT si quieres probar fallback
-        when(properties.database()).thenReturn("dbName");
-        when(properties.username()).thenReturn("username");
-        when(properties.password()).thenReturn("password");
+        properties = new MysqlConnectionProperties("localhost", null, "dbName", "username", "password",
+                MysqlConnectionProperties.Pool.defaults(), MysqlConnectionProperties.PreparedStatements.defaults());
+        registry = new SimpleMeterRegistry();
 
         // Spy del pool para poder verificar la llamada a getConnectionConfig(...)
         pool = Mockito.spy(new MySQLConnectionPool());
@@ -32,9 +39,36 @@ class MySQLConnectionPoolTest {
         assertNotNull(pool.getConnectionConfig(properties));
     }
 
+    @Test
+    void getConnectionConfig_defaultsToMysqlPort() {
+        assertEquals(3306, MySQLConnectionPool.DEFAULT_PORT);
+        assertNotNull(pool.getConnectionConfig(properties));
+    }
+
+    @Test
+    void getConnectionConfig_supportsBothPrepareModes() {
+        for (MysqlConnectionProperties.PrepareMode mode : MysqlConnectionProperties.PrepareMode.values()) {
+            MysqlConnectionProperties withMode = new MysqlConnectionProperties("localhost", 3306, "dbName",
+                    "username", "password", MysqlConnectionProperties.Pool.defaults(),
+                    new MysqlConnectionProperties.PreparedStatements(mode, 64));
+            assertNotNull(pool.getConnectionConfig(withMode), mode.name());
+        }
+    }
+
+    @Test
+    void preparedStatements_defaultToServerWithBoundedCache() {
+        MysqlConnectionProperties noStatements = new MysqlConnectionProperties("localhost", 3306, "dbName",
+                "username", "password", null, null);
+
+        MysqlConnectionProperties.PreparedStatements prepared = MySQLConnectionPool.preparedStatements(noStatements);
+
+        assertEquals(MysqlConnectionProperties.PrepareMode.SERVER, prepared.mode());
+        assertEquals(256, prepared.cacheSize());
+    }
+
     @Test
     void connectionPoolBean_created_ok() {
-        ConnectionPool cp = pool.connectionPool(properties);
+        ConnectionPool cp = pool.connectionPool(properties, registry);
         assertNotNull(cp);
 
         // Verifica que el bean se construyó pasando por getConnectionConfig(...)
@@ -43,4 +77,67 @@ class MySQLConnectionPoolTest {
         // Cierra recursos (no intenta conectar a la BD)
         cp.dispose();
     }
+
+    @Test
+    void connectionPoolBean_usesDefaultsWhenPoolIsMissing() {
+        MysqlConnectionProperties noPool = new MysqlConnectionProperties("localhost", 3306, "dbName",
+                "username", "password", null, null);
+
+        ConnectionPool cp = pool.connectionPool(noPool, registry);
+
+        assertEquals(15, cp.getMetrics().orElseThrow().getMaxAllocatedSize());
+        cp.dispose();
+    }
+
+    @Test
+    void connectionPoolBean_appliesPoolProperties() {
+        MysqlConnectionProperties custom = new MysqlConnectionProperties("localhost", 3306, "dbName",
+                "username", "password",
+                new MysqlConnectionProperties.Pool(2, 8, Duration.ofMinutes(5), Duration.ofMinutes(10),
+                        Duration.ofSeconds(2), Duration.ofSeconds(3), 50, Duration.ofSeconds(10),
+                        ValidationDepth.REMOTE, false),
+                MysqlConnectionProperties.PreparedStatements.defaults());
+
+        ConnectionPool cp = pool.connectionPool(custom, registry);
+
+        assertEquals(8, cp.getMetrics().orElseThrow().getMaxAllocatedSize());
+        assertEquals(50, cp.getMetrics().orElseThrow().getMaxPendingAcquireSize());
+        cp.dispose();
+    }
+
+    @Test
+    void connectionPoolBean_registersOnlyTheAcquireTimer() {
+        ConnectionPool cp = pool.connectionPool(properties, registry);
+
+        // el estado del pool lo publica Actuator (r2dbc.pool.*); aquí solo la latencia de adquisición
+        assertNotNull(registry.find(InstrumentedConnectionPool.METRIC_ACQUIRE)
+                .tag("pool", MySQLConnectionPool.POOL_NAME).timer());
+        assertTrue(registry.getMeters().stream()
+                .allMatch(meter -> meter.getId().getName().equals(InstrumentedConnectionPool.METRIC_ACQUIRE)));
+        cp.dispose();
+    }
+
+    @Test
+    void instrumentedPool_recordsAcquireLatency() {
+        Connection connection = mock(Connection.class);
+        doReturn(Mono.just(true)).when(connection).validate(any());
+        doReturn(Mono.empty()).when(connection).close();
+        ConnectionFactory factory = mock(ConnectionFactory.class);
+        doReturn(Mono.just(connection)).when(factory).create();
+
+        ConnectionPoolConfiguration configuration = pool.poolConfiguration(factory,
+                new MysqlConnectionProperties.Pool(0, 2, Duration.ofMinutes(5), Duration.ofMinutes(10),
+                        Duration.ofSeconds(2), Duration.ofSeconds(2), 10, Duration.ofSeconds(30),
+                        ValidationDepth.LOCAL, false));
+        ConnectionPool cp = new InstrumentedConnectionPool(configuration, "test", registry);
+
+        StepVerifier.create(cp.create())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, registry.get(InstrumentedConnectionPool.METRIC_ACQUIRE)
+                .tag("pool", "test").tag("outcome", "success").timer().count());
+        assertEquals(1, cp.getMetrics().orElseThrow().acquiredSize());
+        cp.dispose();
+    }
 }
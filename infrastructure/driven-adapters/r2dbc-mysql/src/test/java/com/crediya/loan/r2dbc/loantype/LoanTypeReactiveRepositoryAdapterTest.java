@@ -4,13 +4,13 @@ import com.crediya.loan.model.loantype.LoanType;
 import com.crediya.loan.r2dbc.entity.LoanTypeEntity;
 import com.crediya.loan.r2dbc.lonType.LoanTypeReactiveRepository; // repo está en 'lonType'
 import com.crediya.loan.r2dbc.loantype.LoanTypeReactiveRepositoryAdapter;
+import com.crediya.loan.r2dbc.mapper.LoanTypeEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -25,7 +25,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
     LoanTypeReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    LoanTypeEntityMapper mapper;
 
     @InjectMocks
     LoanTypeReactiveRepositoryAdapter adapter;
@@ -88,7 +88,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
         var domain = buildLoanType(1L, "Personal Loan");
 
         when(repository.findById(1L)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, LoanType.class)).thenReturn(domain);
+        when(mapper.toDomain(entity)).thenReturn(domain);
 
         StepVerifier.create(adapter.findById(1L))
                 .expectNextMatches(result ->
@@ -97,7 +97,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
                 .verifyComplete();
 
         verify(repository, times(1)).findById(1L);
-        verify(mapper, times(1)).map(entity, LoanType.class);
+        verify(mapper, times(1)).toDomain(entity);
     }
 
     @Test
@@ -119,7 +119,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
         var entity = buildLoanTypeEntity(1L, "Personal Loan");
 
         when(repository.findById(1L)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, LoanType.class)).thenThrow(new RuntimeException("Mapper error"));
+        when(mapper.toDomain(entity)).thenThrow(new RuntimeException("Mapper error"));
 
         StepVerifier.create(adapter.findById(1L))
                 .expectErrorMatches(throwable ->
@@ -128,6 +128,6 @@ class LoanTypeReactiveRepositoryAdapterTest {
                 .verify();
 
         verify(repository, times(1)).findById(1L);
-        verify(mapper, times(1)).map(entity, LoanType.class);
+        verify(mapper, times(1)).toDomain(entity);
     }
 }
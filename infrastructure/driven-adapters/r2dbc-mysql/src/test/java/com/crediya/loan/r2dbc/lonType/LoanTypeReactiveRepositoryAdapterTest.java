@@ -3,17 +3,19 @@ package com.crediya.loan.r2dbc.lonType;
 import com.crediya.loan.model.loantype.LoanType;
 import com.crediya.loan.r2dbc.entity.LoanTypeEntity;
 import com.crediya.loan.r2dbc.loantype.LoanTypeReactiveRepositoryAdapter; // adapter en 'loantype'
+import com.crediya.loan.r2dbc.mapper.LoanTypeEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.Set;
 
 import static org.mockito.Mockito.*;
 
@@ -24,7 +26,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
     LoanTypeReactiveRepository repository; // repo en 'lonType' (como en tu proyecto)
 
     @Mock
-    ObjectMapper mapper;
+    LoanTypeEntityMapper mapper;
 
     @InjectMocks
     LoanTypeReactiveRepositoryAdapter adapter;
@@ -75,7 +77,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
         var domain = buildLoanType(1L, "Personal Loan");
 
         when(repository.findById(1L)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, LoanType.class)).thenReturn(domain);
+        when(mapper.toDomain(entity)).thenReturn(domain);
 
         StepVerifier.create(adapter.findById(1L))
                 .expectNextMatches(result ->
@@ -84,7 +86,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
                 .verifyComplete();
 
         verify(repository, times(1)).findById(1L);
-        verify(mapper, times(1)).map(entity, LoanType.class);
+        verify(mapper, times(1)).toDomain(entity);
     }
 
     @Test
@@ -106,7 +108,7 @@ class LoanTypeReactiveRepositoryAdapterTest {
         var entity = buildLoanTypeEntity(1L, "Personal Loan");
 
         when(repository.findById(1L)).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, LoanType.class)).thenThrow(new RuntimeException("Mapper error"));
+        when(mapper.toDomain(entity)).thenThrow(new RuntimeException("Mapper error"));
 
         StepVerifier.create(adapter.findById(1L))
                 .expectErrorMatches(throwable ->
@@ -115,6 +117,33 @@ class LoanTypeReactiveRepositoryAdapterTest {
                 .verify();
 
         verify(repository, times(1)).findById(1L);
-        verify(mapper, times(1)).map(entity, LoanType.class);
+        verify(mapper, times(1)).toDomain(entity);
+    }
+
+    // ---------- findAllByIds -----------
+
+    @Test
+    void findAllByIds_queriesOnceAndMaps() {
+        var e1 = buildLoanTypeEntity(1L, "Personal Loan");
+        var e2 = buildLoanTypeEntity(2L, "Car Loan");
+        Set<Long> ids = Set.of(1L, 2L);
+
+        when(repository.findAllById(ids)).thenReturn(Flux.just(e1, e2));
+        when(mapper.toDomain(e1)).thenReturn(buildLoanType(1L, "Personal Loan"));
+        when(mapper.toDomain(e2)).thenReturn(buildLoanType(2L, "Car Loan"));
+
+        StepVerifier.create(adapter.findAllByIds(ids))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(repository, times(1)).findAllById(ids);
+    }
+
+    @Test
+    void findAllByIds_emptyIds_doesNotQuery() {
+        StepVerifier.create(adapter.findAllByIds(Set.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
     }
 }
@@ -0,0 +1,96 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.r2dbc.loantype.LoanTypeReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachedLoanTypeRepositoryTest {
+
+    private ReferenceDataCache cache;
+    private LoanTypeReactiveRepositoryAdapter delegate;
+    private CachedLoanTypeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(ReferenceDataCache.class);
+        delegate = mock(LoanTypeReactiveRepositoryAdapter.class);
+        repository = new CachedLoanTypeRepository(cache, delegate);
+    }
+
+    private static LoanType loanType(Long id) {
+        return LoanType.builder().id(id).name("Tipo " + id).build();
+    }
+
+    private void loaded(LoanType... loanTypes) {
+        when(cache.current()).thenReturn(Optional.of(
+                ReferenceDataSnapshot.of(List.of(loanTypes), List.of(), Instant.now())));
+    }
+
+    @Test
+    void findById_inSnapshot_doesNotQueryDatabase() {
+        loaded(loanType(1L));
+
+        StepVerifier.create(repository.findById(1L))
+                .expectNextMatches(lt -> lt.getId() == 1L)
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findById_missingFromSnapshot_fallsBackToDatabase() {
+        loaded(loanType(1L));
+        when(delegate.findById(9L)).thenReturn(Mono.just(loanType(9L)));
+
+        StepVerifier.create(repository.findById(9L))
+                .expectNextMatches(lt -> lt.getId() == 9L)
+                .verifyComplete();
+
+        verify(delegate).findById(9L);
+    }
+
+    @Test
+    void findById_withoutSnapshot_queriesDatabase() {
+        when(cache.current()).thenReturn(Optional.empty());
+        when(delegate.findById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findById(1L)).verifyComplete();
+
+        verify(delegate).findById(1L);
+    }
+
+    @Test
+    void findAllByIds_allInSnapshot_resolvesInMemory() {
+        loaded(loanType(1L), loanType(2L));
+
+        StepVerifier.create(repository.findAllByIds(Set.of(1L, 2L)))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findAllByIds_someMissing_delegatesWholeSet() {
+        loaded(loanType(1L));
+        when(delegate.findAllByIds(any())).thenReturn(Flux.just(loanType(1L)));
+
+        StepVerifier.create(repository.findAllByIds(Set.of(1L, 3L)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate).findAllByIds(Set.of(1L, 3L));
+    }
+}
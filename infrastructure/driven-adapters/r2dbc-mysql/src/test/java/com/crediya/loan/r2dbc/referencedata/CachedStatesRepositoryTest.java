@@ -0,0 +1,65 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.model.states.States;
+import com.crediya.loan.r2dbc.states.StatesReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+class CachedStatesRepositoryTest {
+
+    private ReferenceDataCache cache;
+    private StatesReactiveRepositoryAdapter delegate;
+    private CachedStatesRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(ReferenceDataCache.class);
+        delegate = mock(StatesReactiveRepositoryAdapter.class);
+        repository = new CachedStatesRepository(cache, delegate);
+    }
+
+    private static States state(Long id, String code) {
+        return States.builder().id(id).code(code).name(code).build();
+    }
+
+    @Test
+    void findByCode_inSnapshot_doesNotQueryDatabase() {
+        when(cache.current()).thenReturn(Optional.of(
+                ReferenceDataSnapshot.of(List.of(), List.of(state(7L, "PEN")), Instant.now())));
+
+        StepVerifier.create(repository.findByCode("PEN"))
+                .expectNextMatches(s -> s.getId() == 7L)
+                .verifyComplete();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findByCode_unknownCode_fallsBackToDatabase() {
+        when(cache.current()).thenReturn(Optional.of(
+                ReferenceDataSnapshot.of(List.of(), List.of(state(7L, "PEN")), Instant.now())));
+        when(delegate.findByCode("XXX")).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findByCode("XXX")).verifyComplete();
+
+        verify(delegate).findByCode("XXX");
+    }
+
+    @Test
+    void findByCode_withoutSnapshot_queriesDatabase() {
+        when(cache.current()).thenReturn(Optional.empty());
+        when(delegate.findByCode("PEN")).thenReturn(Mono.just(state(7L, "PEN")));
+
+        StepVerifier.create(repository.findByCode("PEN")).expectNextCount(1).verifyComplete();
+
+        verify(delegate).findByCode("PEN");
+    }
+}
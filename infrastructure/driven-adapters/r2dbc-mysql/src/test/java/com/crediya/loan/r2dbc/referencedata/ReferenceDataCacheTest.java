@@ -0,0 +1,94 @@
+package com.crediya.loan.r2dbc.referencedata;
+
+import com.crediya.loan.model.loantype.LoanType;
+import com.crediya.loan.model.states.States;
+import com.crediya.loan.r2dbc.loantype.LoanTypeReactiveRepositoryAdapter;
+import com.crediya.loan.r2dbc.states.StatesReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-01T10:00:00Z");
+
+    private LoanTypeReactiveRepositoryAdapter loanTypeAdapter;
+    private StatesReactiveRepositoryAdapter statesAdapter;
+
+    @BeforeEach
+    void setUp() {
+        loanTypeAdapter = mock(LoanTypeReactiveRepositoryAdapter.class);
+        statesAdapter = mock(StatesReactiveRepositoryAdapter.class);
+        when(loanTypeAdapter.findAll()).thenReturn(Flux.just(loanType(1L), loanType(2L)));
+        when(statesAdapter.findAll()).thenReturn(Flux.just(state(7L, "PEN"), state(8L, "APR")));
+    }
+
+    private ReferenceDataCache cache(boolean enabled) {
+        return new ReferenceDataCache(loanTypeAdapter, statesAdapter,
+                new ReferenceDataProperties(enabled, Duration.ofMinutes(10)), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static LoanType loanType(Long id) {
+        return LoanType.builder().id(id).name("Tipo " + id)
+                .amountMin(BigDecimal.ONE).amountMax(BigDecimal.TEN).build();
+    }
+
+    private static States state(Long id, String code) {
+        return States.builder().id(id).code(code).name(code).build();
+    }
+
+    @Test
+    void refresh_indexesBothTablesByIdAndCode() {
+        var cache = cache(true);
+
+        StepVerifier.create(cache.refresh())
+                .assertNext(snapshot -> {
+                    assertEquals(Set.of(1L, 2L), snapshot.loanTypesById().keySet());
+                    assertEquals(7L, snapshot.statesByCode().get("PEN").getId());
+                    assertEquals("APR", snapshot.statesById().get(8L).getCode());
+                    assertEquals(NOW, snapshot.loadedAt());
+                })
+                .verifyComplete();
+
+        assertTrue(cache.current().isPresent());
+        assertThrows(UnsupportedOperationException.class,
+                () -> cache.current().orElseThrow().loanTypesById().put(3L, loanType(3L)));
+    }
+
+    @Test
+    void current_beforeFirstLoad_isEmpty() {
+        assertTrue(cache(true).current().isEmpty());
+    }
+
+    @Test
+    void current_disabled_isEmptyEvenAfterRefresh() {
+        var cache = cache(false);
+
+        StepVerifier.create(cache.refresh()).expectNextCount(1).verifyComplete();
+
+        assertTrue(cache.current().isEmpty());
+    }
+
+    @Test
+    void refresh_failure_keepsPreviousSnapshot() {
+        var cache = cache(true);
+        StepVerifier.create(cache.refresh()).expectNextCount(1).verifyComplete();
+        var previous = cache.current().orElseThrow();
+
+        when(statesAdapter.findAll()).thenReturn(Flux.error(new IllegalStateException("db down")));
+        StepVerifier.create(cache.refresh()).expectError(IllegalStateException.class).verify();
+
+        assertSame(previous, cache.current().orElseThrow());
+    }
+}
@@ -2,13 +2,13 @@ package com.crediya.loan.r2dbc.states;
 
 import com.crediya.loan.model.states.States;
 import com.crediya.loan.r2dbc.entity.StatesEntity;
+import com.crediya.loan.r2dbc.mapper.StatesEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -21,7 +21,7 @@ class StatesReactiveRepositoryAdapterTest {
     StatesReactiveRepository repository;
 
     @Mock
-    ObjectMapper mapper;
+    StatesEntityMapper mapper;
 
     @InjectMocks
     StatesReactiveRepositoryAdapter adapter;
@@ -90,7 +90,7 @@ class StatesReactiveRepositoryAdapterTest {
         var domain = buildStates(1L, "PEN", "Pending");
 
         when(repository.findByCode("PEN")).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, States.class)).thenReturn(domain);
+        when(mapper.toDomain(entity)).thenReturn(domain);
 
         StepVerifier.create(adapter.findByCode("PEN"))
                 .expectNextMatches(result -> 
@@ -100,7 +100,7 @@ class StatesReactiveRepositoryAdapterTest {
                 .verifyComplete();
 
         verify(repository, times(1)).findByCode("PEN");
-        verify(mapper, times(1)).map(entity, States.class);
+        verify(mapper, times(1)).toDomain(entity);
     }
 
     @Test
@@ -122,7 +122,7 @@ class StatesReactiveRepositoryAdapterTest {
         var entity = buildStatesEntity(1L, "PEN", "Pending");
 
         when(repository.findByCode("PEN")).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, States.class)).thenThrow(new RuntimeException("Mapper error"));
+        when(mapper.toDomain(entity)).thenThrow(new RuntimeException("Mapper error"));
 
         StepVerifier.create(adapter.findByCode("PEN"))
                 .expectErrorMatches(throwable -> 
@@ -131,7 +131,7 @@ class StatesReactiveRepositoryAdapterTest {
                 .verify();
 
         verify(repository, times(1)).findByCode("PEN");
-        verify(mapper, times(1)).map(entity, States.class);
+        verify(mapper, times(1)).toDomain(entity);
     }
 
     @Test
@@ -140,7 +140,7 @@ class StatesReactiveRepositoryAdapterTest {
         var domain = buildStates(1L, "PEN", "Pending");
 
         when(repository.findByCode("PEN")).thenReturn(Mono.just(entity));
-        when(mapper.map(entity, States.class)).thenReturn(domain);
+        when(mapper.toDomain(entity)).thenReturn(domain);
 
         // Test con código en mayúsculas
         StepVerifier.create(adapter.findByCode("PEN"))
@@ -148,6 +148,6 @@ class StatesReactiveRepositoryAdapterTest {
                 .verifyComplete();
 
         verify(repository, times(1)).findByCode("PEN");
-        verify(mapper, times(1)).map(entity, States.class);
+        verify(mapper, times(1)).toDomain(entity);
     }
 }
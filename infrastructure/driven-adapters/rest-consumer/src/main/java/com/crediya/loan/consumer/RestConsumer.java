@@ -2,8 +2,13 @@ package com.crediya.loan.consumer;
 import com.crediya.loan.consumer.dto.LoadUsersResponseDto;
 import com.crediya.loan.consumer.dto.UserExistRequestDto;
 import com.crediya.loan.consumer.dto.UserExistResponseDto;
+import com.crediya.loan.consumer.dto.UserExistResultDto;
+import com.crediya.loan.consumer.dto.UsersByDocumentsRequestDto;
+import com.crediya.loan.consumer.dto.UsersExistBatchRequestDto;
+import com.crediya.loan.consumer.dto.UsersExistBatchResponseDto;
 import com.crediya.loan.consumer.mapper.UserLoadMapper;
 import com.crediya.loan.model.user.User;
+import com.crediya.loan.model.user.UserCredentials;
 import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
 import com.crediya.loan.usecase.shared.Messages;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -15,6 +20,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -35,7 +43,7 @@ public class RestConsumer implements UserManagementGateway {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication().getCredentials().toString())
                 .flatMap(token -> {
-                    log.info("[RestConsumer.verify] Preparando request → documentNumber={}, email={}", documentNumber, email);
+                    log.debug("[RestConsumer.verify] Preparando request → documentNumber={}, email={}", documentNumber, email);
 
                     return client.post()
                             .uri("/api/v1/users/exist")
@@ -54,8 +62,8 @@ public class RestConsumer implements UserManagementGateway {
                                         });
                             })
                             .bodyToMono(UserExistResponseDto.class)
-                            .doOnSubscribe(sub -> log.info("[RestConsumer.verify] Request enviado a /api/v1/users/exist"))
-                            .doOnNext(resp -> log.info("[RestConsumer.verify] Respuesta recibida: success={}", resp.isSuccess()))
+                            .doOnSubscribe(sub -> log.debug("[RestConsumer.verify] Request enviado a /api/v1/users/exist"))
+                            .doOnNext(resp -> log.debug("[RestConsumer.verify] Respuesta recibida: success={}", resp.isSuccess()))
                             .map(UserExistResponseDto::isSuccess)
                             .onErrorResume(IllegalArgumentException.class, ex -> {
                                 log.warn("[RestConsumer.verify] Usuario no encontrado → {}", ex.getMessage());
@@ -71,15 +79,15 @@ public class RestConsumer implements UserManagementGateway {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication().getCredentials().toString())
                 .flatMapMany(token -> {
-                    log.info("[loadUsers] Preparando request con token");
+                    log.debug("[loadUsers] Preparando request con token");
 
                     return client.get()
                             .uri("/api/v1/usuarios")
                             .header("Authorization", "Bearer " + token)
                             .retrieve()
                             .bodyToMono(LoadUsersResponseDto.class)
-                            .doOnSubscribe(s -> log.info("[loadUsers] GET /api/v1/usuarios"))
-                            .doOnNext(resp -> log.info("[loadUsers] {} usuarios",
+                            .doOnSubscribe(s -> log.debug("[loadUsers] GET /api/v1/usuarios"))
+                            .doOnNext(resp -> log.debug("[loadUsers] {} usuarios",
                                     resp.getData() == null ? 0 : resp.getData().size()))
                             .doOnError(err -> log.error("[loadUsers] Error llamando /api/v1/usuarios", err))
                             .flatMapMany(resp -> {
@@ -93,7 +101,61 @@ public class RestConsumer implements UserManagementGateway {
                 });
     }
 
+    @Override
+    @CircuitBreaker(name = "usuarios")
+    public Flux<User> findUsersByDocuments(Set<String> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return Flux.empty();
+        }
+        var request = UsersByDocumentsRequestDto.builder()
+                .documents(documents)
+                .build();
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication().getCredentials().toString())
+                .flatMapMany(token -> client.post()
+                        .uri("/api/v1/usuarios/documentos")
+                        .header("Authorization", "Bearer " + token)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(LoadUsersResponseDto.class)
+                        .doOnSubscribe(s -> log.debug("[findUsersByDocuments] POST /api/v1/usuarios/documentos ({} documentos)",
+                                documents.size()))
+                        .doOnError(err -> log.error("[findUsersByDocuments] Error llamando /api/v1/usuarios/documentos", err))
+                        .flatMapMany(resp -> resp.getData() == null
+                                ? Flux.<User>empty()
+                                : Flux.fromIterable(resp.getData()).map(userLoadMapper::toDomain)));
+    }
 
+    @Override
+    @CircuitBreaker(name = "userExist")
+    public Mono<Set<UserCredentials>> verifyAll(Set<UserCredentials> credentials) {
+        if (credentials == null || credentials.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        var request = UsersExistBatchRequestDto.builder()
+                .users(credentials.stream()
+                        .map(c -> UserExistRequestDto.builder().document(c.document()).email(c.email()).build())
+                        .toList())
+                .build();
 
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication().getCredentials().toString())
+                .flatMap(token -> client.post()
+                        .uri("/api/v1/users/exist/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(UsersExistBatchResponseDto.class)
+                        .doOnSubscribe(s -> log.debug("[verifyAll] POST /api/v1/users/exist/batch ({} usuarios)",
+                                credentials.size()))
+                        .doOnError(err -> log.error("[verifyAll] Error llamando /api/v1/users/exist/batch", err))
+                        .map(resp -> resp.getData() == null
+                                ? Set.<UserCredentials>of()
+                                : resp.getData().stream()
+                                        .filter(UserExistResultDto::isExists)
+                                        .map(r -> new UserCredentials(r.getDocument(), r.getEmail()))
+                                        .collect(Collectors.toUnmodifiableSet())));
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,243 @@
+package com.crediya.loan.consumer.cache;
+
+import com.crediya.loan.consumer.RestConsumer;
+import com.crediya.loan.model.user.User;
+import com.crediya.loan.model.user.UserCredentials;
+import com.crediya.loan.model.user.UserIndex;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Decorador de {@link UserManagementGateway} frente al servicio de usuarios:
+ * <ul>
+ *   <li>Los usuarios que piden el listado y la exportación se guardan por documento durante
+ *   {@code ttl}, hasta {@code maxSize}: cada lote solo consulta al servicio los documentos que no
+ *   están en memoria, en una sola petición. No se refresca en segundo plano: el servicio exige el
+ *   token de quien pide, así que la recarga la hace el siguiente lote que encuentra la entrada vencida.
+ *   El directorio completo no se guarda (nadie lo lee en el listado).</li>
+ *   <li>Las consultas idénticas concurrentes del mismo llamante (mismo token) comparten una sola
+ *   petición. El token va en la clave: una petición nunca sale con las credenciales de otra ni recibe
+ *   su 401. Los cachés de usuarios y de verificaciones sí se comparten entre llamantes, porque guardan
+ *   datos que no dependen de quién pregunta (las rutas ya están restringidas por rol).</li>
+ *   <li>Las verificaciones por documento/email se guardan en memoria, con TTL distinto para respuestas
+ *   positivas y negativas, para que los reintentos del mismo cliente no vuelvan a llamar al servicio.</li>
+ * </ul>
+ */
+@Slf4j
+@Primary
+@Component
+public class CachedUserManagementGateway implements UserManagementGateway {
+
+    static final String METRIC_USERS = "crediya.users.cache.requests";
+    static final String METRIC_USERS_SIZE = "crediya.users.cache.size";
+    static final String METRIC_VERIFY = "crediya.users.verify.cache.requests";
+
+    private final UserManagementGateway delegate;
+    private final VerificationCacheProperties verifyProperties;
+    private final UsersCacheProperties usersProperties;
+
+    // Llamadas idénticas concurrentes del mismo llamante comparten una sola petición
+    private final SingleFlight<String, List<User>> directoryLoads = new SingleFlight<>();
+    private final SingleFlight<CallerKey<Set<String>>, List<User>> documentLookups = new SingleFlight<>();
+    private final SingleFlight<CallerKey<UserCredentials>, Boolean> verifyCalls = new SingleFlight<>();
+    private final SingleFlight<CallerKey<Set<UserCredentials>>, Set<UserCredentials>> verifyAllCalls = new SingleFlight<>();
+
+    private final AsyncCache<String, User> users;
+    private final Counter userHits;
+    private final Counter userMisses;
+
+    private final AsyncCache<UserCredentials, Boolean> verifications;
+    private final Counter verifyHits;
+    private final Counter verifyMisses;
+
+    @Autowired
+    public CachedUserManagementGateway(RestConsumer delegate,
+                                       VerificationCacheProperties verifyProperties,
+                                       UsersCacheProperties usersProperties,
+                                       MeterRegistry registry) {
+        this(delegate, verifyProperties, usersProperties, registry, Ticker.systemTicker());
+    }
+
+    CachedUserManagementGateway(UserManagementGateway delegate,
+                                VerificationCacheProperties verifyProperties,
+                                UsersCacheProperties usersProperties,
+                                MeterRegistry registry,
+                                Ticker ticker) {
+        this.delegate = delegate;
+        this.verifyProperties = verifyProperties;
+        this.usersProperties = usersProperties;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(usersProperties.maxSize())
+                .expireAfterWrite(usersProperties.ttl())
+                .ticker(ticker)
+                .buildAsync();
+        this.userHits = Counter.builder(METRIC_USERS).tag("result", "hit")
+                .description("Usuarios del listado resueltos desde memoria")
+                .register(registry);
+        this.userMisses = Counter.builder(METRIC_USERS).tag("result", "miss")
+                .description("Usuarios del listado que requirieron llamar al servicio")
+                .register(registry);
+        Gauge.builder(METRIC_USERS_SIZE, users, cache -> cache.synchronous().estimatedSize())
+                .description("Usuarios retenidos en memoria")
+                .register(registry);
+        this.verifications = Caffeine.newBuilder()
+                .maximumSize(verifyProperties.maxSize())
+                .expireAfter(new VerificationExpiry(verifyProperties))
+                .ticker(ticker)
+                .buildAsync();
+        this.verifyHits = Counter.builder(METRIC_VERIFY).tag("result", "hit")
+                .description("Verificaciones de usuario resueltas desde memoria")
+                .register(registry);
+        this.verifyMisses = Counter.builder(METRIC_VERIFY).tag("result", "miss")
+                .description("Verificaciones de usuario que requirieron llamar al servicio")
+                .register(registry);
+    }
+
+    @Override
+    public Flux<User> loadUsers() {
+        return callerToken()
+                .flatMap(token -> directoryLoads.execute(token, () -> delegate.loadUsers().collectList()))
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Los documentos en memoria no salen del proceso; los demás se piden en un solo lote, que comparten
+     * las páginas concurrentes con los mismos faltantes. Los documentos que el servicio no devuelve y
+     * los errores no se cachean. La consulta corre con el contexto de quien la dispara.
+     */
+    @Override
+    public Flux<User> findUsersByDocuments(Set<String> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return delegate.findUsersByDocuments(documents);
+        }
+        if (!usersProperties.enabled()) {
+            return lookup(documents).flatMapIterable(Function.identity());
+        }
+        Set<String> keys = documents.stream()
+                .map(UserIndex::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return Mono.deferContextual(ctx -> {
+                    AtomicInteger loaded = new AtomicInteger();
+                    // suppressCancel: si este suscriptor cancela, el lote compartido sigue para los demás
+                    return Mono.fromFuture(() -> users.getAll(keys, (missing, executor) -> {
+                                loaded.set(missing.size());
+                                return lookup(Set.copyOf(missing))
+                                        .contextWrite(ctx)
+                                        .map(CachedUserManagementGateway::byDocument)
+                                        .toFuture();
+                            }), true)
+                            .doOnSuccess(found -> {
+                                userMisses.increment(loaded.get());
+                                userHits.increment(keys.size() - loaded.get());
+                            });
+                })
+                .flatMapIterable(Map::values);
+    }
+
+    /**
+     * Las verificaciones concurrentes del mismo par comparten una sola llamada. Los errores y las
+     * respuestas vacías no se cachean. El contexto de Reactor (token del usuario) se pasa a la llamada.
+     */
+    @Override
+    public Mono<Boolean> verify(String documentNumber, String email) {
+        UserCredentials key = new UserCredentials(documentNumber, email);
+        if (!verifyProperties.enabled()) {
+            return coalesce(verifyCalls, key, () -> delegate.verify(documentNumber, email));
+        }
+        return Mono.deferContextual(ctx -> {
+            AtomicBoolean loaded = new AtomicBoolean(false);
+            // suppressCancel: si este suscriptor cancela, la llamada compartida sigue para los demás
+            return Mono.fromFuture(() -> verifications.get(key, (k, executor) -> {
+                        loaded.set(true);
+                        return delegate.verify(documentNumber, email).contextWrite(ctx).toFuture();
+                    }), true)
+                    .doOnSuccess(result -> (loaded.get() ? verifyMisses : verifyHits).increment());
+        });
+    }
+
+    @Override
+    public Mono<Set<UserCredentials>> verifyAll(Set<UserCredentials> credentials) {
+        if (credentials == null || credentials.isEmpty()) {
+            return delegate.verifyAll(credentials);
+        }
+        return coalesce(verifyAllCalls, Set.copyOf(credentials), () -> delegate.verifyAll(credentials));
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private Mono<List<User>> lookup(Set<String> documents) {
+        return coalesce(documentLookups, Set.copyOf(documents),
+                () -> delegate.findUsersByDocuments(documents).collectList());
+    }
+
+    private static <K, V> Mono<V> coalesce(SingleFlight<CallerKey<K>, V> flights, K key, Supplier<Mono<V>> call) {
+        return callerToken().flatMap(token -> flights.execute(new CallerKey<>(token, key), call));
+    }
+
+    /** Token con el que {@code RestConsumer} llamará al servicio; vacío si no hay contexto de seguridad. */
+    private static Mono<String> callerToken() {
+        return ReactiveSecurityContextHolder.getContext()
+                .filter(ctx -> ctx.getAuthentication() != null)
+                .map(ctx -> String.valueOf(ctx.getAuthentication().getCredentials()))
+                .defaultIfEmpty("");
+    }
+
+    private static Map<String, User> byDocument(List<User> found) {
+        Map<String, User> map = new HashMap<>();
+        for (User user : found) {
+            String document = UserIndex.normalize(user.getIdentityDocument());
+            if (document != null) {
+                map.putIfAbsent(document, user);
+            }
+        }
+        return map;
+    }
+
+    /** Clave de una llamada agrupable: la misma consulta con las mismas credenciales. */
+    private record CallerKey<K>(String token, K key) {
+    }
+
+    /** TTL según la respuesta: las negativas vencen antes que las positivas. */
+    private record VerificationExpiry(VerificationCacheProperties properties) implements Expiry<UserCredentials, Boolean> {
+
+        @Override
+        public long expireAfterCreate(UserCredentials key, Boolean exists, long currentTime) {
+            return (Boolean.TRUE.equals(exists) ? properties.positiveTtl() : properties.negativeTtl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UserCredentials key, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UserCredentials key, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.crediya.loan.consumer.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa llamadas idénticas concurrentes: mientras hay una en curso para una clave, los demás
+ * suscriptores se unen a ella y reciben el mismo resultado o el mismo error. Al terminar la clave se
+ * libera, así que no retiene resultados (no agrega datos viejos).
+ * La llamada se ejecuta con el contexto de Reactor del primer suscriptor (token, tiempos por etapa):
+ * si el resultado depende de quién llama, esa identidad debe ir en la clave.
+ *
+ * @param <K> clave que identifica llamadas equivalentes (debe implementar equals/hashCode)
+ * @param <V> resultado de la llamada
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> newFlight(k, call)));
+    }
+
+    /** Cantidad de claves con una llamada en curso. */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private Mono<V> newFlight(K key, Supplier<Mono<V>> call) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        Mono<V> flight = Mono.defer(call)
+                // se libera antes de emitir el resultado (quien llegue después inicia otra llamada) y
+                // solo si sigue siendo la llamada registrada para esta clave
+                .doOnTerminate(() -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(flight);
+        return flight;
+    }
+}
@@ -0,0 +1,21 @@
+package com.crediya.loan.consumer.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del caché de usuarios por documento que usan el listado y la exportación.
+ *
+ * @param enabled activa/desactiva el caché (si es false cada lote consulta el servicio de usuarios)
+ * @param ttl     tiempo que se reutilizan los datos de un usuario; acota cuánto tarda en verse un
+ *                cambio de nombre o salario hecho en el servicio de usuarios
+ * @param maxSize máximo de usuarios retenidos
+ */
+@ConfigurationProperties(prefix = "adapter.restconsumer.users-cache")
+public record UsersCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("50000") long maxSize) {
+}
@@ -0,0 +1,23 @@
+package com.crediya.loan.consumer.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del caché de verificaciones de usuario (documento + email).
+ *
+ * @param enabled     activa/desactiva el caché (si es false cada verificación llama al servicio)
+ * @param positiveTtl tiempo que se reutiliza una respuesta "el usuario existe"
+ * @param negativeTtl tiempo que se reutiliza una respuesta "el usuario no existe"; más corto para
+ *                    que un usuario recién registrado no quede rechazado por mucho tiempo
+ * @param maxSize     máximo de pares documento/email retenidos
+ */
+@ConfigurationProperties(prefix = "adapter.restconsumer.verify-cache")
+public record VerificationCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2m") Duration positiveTtl,
+        @DefaultValue("15s") Duration negativeTtl,
+        @DefaultValue("10000") long maxSize) {
+}
@@ -0,0 +1,14 @@
+package com.crediya.loan.consumer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserExistResultDto {
+    private String document;
+    private String email;
+    private boolean exists;
+}
@@ -0,0 +1,16 @@
+package com.crediya.loan.consumer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UsersByDocumentsRequestDto {
+    private Set<String> documents;
+}
@@ -0,0 +1,16 @@
+package com.crediya.loan.consumer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UsersExistBatchRequestDto {
+    private List<UserExistRequestDto> users;
+}
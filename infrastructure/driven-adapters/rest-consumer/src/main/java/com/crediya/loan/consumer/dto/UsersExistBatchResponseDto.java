@@ -0,0 +1,15 @@
+package com.crediya.loan.consumer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsersExistBatchResponseDto {
+    private boolean success;
+    private List<UserExistResultDto> data;
+}
@@ -5,6 +5,7 @@ import com.crediya.loan.consumer.dto.UserDto;
 import com.crediya.loan.consumer.dto.UserExistResponseDto;
 import com.crediya.loan.consumer.mapper.UserLoadMapper;
 import com.crediya.loan.model.user.User;
+import com.crediya.loan.model.user.UserCredentials;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -22,6 +23,7 @@ import reactor.test.StepVerifier;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -224,4 +226,101 @@ class RestConsumerTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    // ===== findUsersByDocuments(...) =====
+
+    @Test
+    void findUsersByDocuments_shouldPostDocumentsOnce_andMapUsers() throws InterruptedException {
+        var body = """
+                {
+                  "success": true,
+                  "data": [
+                    {"firstName":"Ana","lastName":"Diaz","identityDocument":"CC1","baseSalary": 1200.50}
+                  ]
+                }
+                """;
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(body)
+                .addHeader("Content-Type", "application/json"));
+
+        when(mapper.toDomain(ArgumentMatchers.any(UserDto.class)))
+                .thenAnswer(inv -> {
+                    UserDto dto = inv.getArgument(0);
+                    return User.builder()
+                            .firstName(dto.getFirstName())
+                            .identityDocument(dto.getIdentityDocument())
+                            .build();
+                });
+
+        var sc = scWithToken("tok-batch");
+
+        StepVerifier.create(
+                        restConsumer.findUsersByDocuments(Set.of("CC1"))
+                                .contextWrite(withSecurityContext(Mono.just(sc)))
+                )
+                .expectNextMatches(u -> u.getIdentityDocument().equals("CC1"))
+                .verifyComplete();
+
+        RecordedRequest req = server.takeRequest();
+        assertEquals("/api/v1/usuarios/documentos", req.getPath());
+        assertEquals("POST", req.getMethod());
+        assertEquals("Bearer tok-batch", req.getHeader("Authorization"));
+        assertTrue(req.getBody().readUtf8().contains("CC1"));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void findUsersByDocuments_shouldNotCallApi_whenNoDocuments() {
+        StepVerifier.create(restConsumer.findUsersByDocuments(Set.of()))
+                .verifyComplete();
+
+        assertEquals(0, server.getRequestCount());
+    }
+
+    // ===== verifyAll(...) =====
+
+    @Test
+    void verifyAll_shouldPostAllCredentialsOnce_andReturnOnlyExisting() throws InterruptedException {
+        var body = """
+                {
+                  "success": true,
+                  "data": [
+                    {"document":"CC1","email":"a@mail.com","exists":true},
+                    {"document":"CC2","email":"b@mail.com","exists":false}
+                  ]
+                }
+                """;
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(body)
+                .addHeader("Content-Type", "application/json"));
+
+        var sc = scWithToken("tok-verify");
+        var credentials = Set.of(new UserCredentials("CC1", "a@mail.com"), new UserCredentials("CC2", "b@mail.com"));
+
+        StepVerifier.create(
+                        restConsumer.verifyAll(credentials)
+                                .contextWrite(withSecurityContext(Mono.just(sc)))
+                )
+                .expectNext(Set.of(new UserCredentials("CC1", "a@mail.com")))
+                .verifyComplete();
+
+        RecordedRequest req = server.takeRequest();
+        assertEquals("/api/v1/users/exist/batch", req.getPath());
+        assertEquals("POST", req.getMethod());
+        assertEquals("Bearer tok-verify", req.getHeader("Authorization"));
+        String sent = req.getBody().readUtf8();
+        assertTrue(sent.contains("CC1") && sent.contains("CC2"));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void verifyAll_shouldNotCallApi_whenNoCredentials() {
+        StepVerifier.create(restConsumer.verifyAll(Set.of()))
+                .expectNext(Set.of())
+                .verifyComplete();
+
+        assertEquals(0, server.getRequestCount());
+    }
 }
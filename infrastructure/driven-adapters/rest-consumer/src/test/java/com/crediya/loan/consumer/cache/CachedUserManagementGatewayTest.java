@@ -0,0 +1,426 @@
+package com.crediya.loan.consumer.cache;
+
+import com.crediya.loan.model.user.User;
+import com.crediya.loan.model.user.UserCredentials;
+import com.crediya.loan.usecase.generaterequest.gateway.UserManagementGateway;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CachedUserManagementGatewayTest {
+
+    private UserManagementGateway delegate;
+    private SimpleMeterRegistry registry;
+    private FakeTicker ticker;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserManagementGateway.class);
+        registry = new SimpleMeterRegistry();
+        ticker = new FakeTicker();
+        calls = new AtomicInteger();
+        when(delegate.loadUsers()).thenReturn(Flux.defer(() -> {
+            calls.incrementAndGet();
+            return Flux.just(user("CC1"), user("CC2"));
+        }));
+    }
+
+    private static final VerificationCacheProperties VERIFY_PROPS =
+            new VerificationCacheProperties(true, Duration.ofMinutes(2), Duration.ofSeconds(15), 100);
+    private static final UsersCacheProperties USERS_PROPS = new UsersCacheProperties(true, Duration.ofMinutes(5), 100);
+
+    private CachedUserManagementGateway gateway(VerificationCacheProperties verifyProps) {
+        return new CachedUserManagementGateway(delegate, verifyProps, USERS_PROPS, registry, ticker);
+    }
+
+    private CachedUserManagementGateway gateway(UsersCacheProperties usersProps) {
+        return new CachedUserManagementGateway(delegate, VERIFY_PROPS, usersProps, registry, ticker);
+    }
+
+    private CachedUserManagementGateway gateway() {
+        return gateway(VERIFY_PROPS);
+    }
+
+    private double usersCounter(String result) {
+        return registry.get(CachedUserManagementGateway.METRIC_USERS).tag("result", result).counter().count();
+    }
+
+    /** El delegado devuelve un usuario por cada documento pedido y cuenta los lotes. */
+    private void stubLookups(AtomicInteger lookups) {
+        when(delegate.findUsersByDocuments(anySet())).thenAnswer(inv -> {
+            Set<String> documents = inv.getArgument(0);
+            return Flux.defer(() -> {
+                lookups.incrementAndGet();
+                return Flux.fromIterable(documents).map(CachedUserManagementGatewayTest::user);
+            });
+        });
+    }
+
+    private double verifyCounter(String result) {
+        return registry.get(CachedUserManagementGateway.METRIC_VERIFY).tag("result", result).counter().count();
+    }
+
+    private static User user(String doc) {
+        return User.builder()
+                .identityDocument(doc)
+                .firstName("Ana")
+                .lastName("Diaz")
+                .baseSalary(new BigDecimal("1000"))
+                .build();
+    }
+
+    @Test
+    void loadUsers_concurrentCalls_shareSingleCall() {
+        when(delegate.loadUsers()).thenReturn(Flux.defer(() -> {
+            calls.incrementAndGet();
+            return Flux.just(user("CC1")).delayElements(Duration.ofMillis(50));
+        }));
+        var gw = gateway();
+
+        StepVerifier.create(Flux.merge(gw.loadUsers(), gw.loadUsers(), gw.loadUsers()))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void loadUsers_delegateError_isPropagatedAndNotCached() {
+        when(delegate.loadUsers())
+                .thenReturn(Flux.error(new IllegalStateException("down")))
+                .thenReturn(Flux.just(user("CC1")));
+        var gw = gateway();
+
+        StepVerifier.create(gw.loadUsers()).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(gw.loadUsers()).expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    void loadUsers_sequentialCalls_alwaysDelegate() {
+        var gw = gateway();
+
+        StepVerifier.create(gw.loadUsers()).expectNextCount(2).verifyComplete();
+        StepVerifier.create(gw.loadUsers()).expectNextCount(2).verifyComplete();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void findUsersByDocuments_delegatesBatchCall() {
+        when(delegate.findUsersByDocuments(Set.of("CC1"))).thenReturn(Flux.just(user("CC1")));
+        var gw = gateway();
+
+        StepVerifier.create(gw.findUsersByDocuments(Set.of("CC1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate).findUsersByDocuments(Set.of("CC1"));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void findUsersByDocuments_repeatedDocuments_areServedFromMemory() {
+        AtomicInteger lookups = new AtomicInteger();
+        stubLookups(lookups);
+        var gw = gateway();
+
+        StepVerifier.create(gw.findUsersByDocuments(Set.of("CC1", "CC2"))).expectNextCount(2).verifyComplete();
+        StepVerifier.create(gw.findUsersByDocuments(Set.of(" CC1 ", "CC2"))).expectNextCount(2).verifyComplete();
+
+        assertEquals(1, lookups.get());
+        assertEquals(2.0, usersCounter("miss"));
+        assertEquals(2.0, usersCounter("hit"));
+        assertEquals(2.0, registry.get(CachedUserManagementGateway.METRIC_USERS_SIZE).gauge().value());
+    }
+
+    @Test
+    void findUsersByDocuments_partialHit_asksOnlyForTheMissingDocuments() {
+        AtomicInteger lookups = new AtomicInteger();
+        stubLookups(lookups);
+        var gw = gateway();
+
+        gw.findUsersByDocuments(Set.of("CC1")).blockLast();
+        StepVerifier.create(gw.findUsersByDocuments(Set.of("CC1", "CC2"))).expectNextCount(2).verifyComplete();
+
+        verify(delegate).findUsersByDocuments(Set.of("CC1"));
+        verify(delegate).findUsersByDocuments(Set.of("CC2"));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void findUsersByDocuments_entriesExpireAfterTtl() {
+        AtomicInteger lookups = new AtomicInteger();
+        stubLookups(lookups);
+        var gw = gateway();
+
+        gw.findUsersByDocuments(Set.of("CC1")).blockLast();
+        ticker.advance(Duration.ofMinutes(4));
+        gw.findUsersByDocuments(Set.of("CC1")).blockLast();
+        ticker.advance(Duration.ofMinutes(2));
+        gw.findUsersByDocuments(Set.of("CC1")).blockLast();
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void findUsersByDocuments_unknownDocumentsAndErrors_areNotCached() {
+        when(delegate.findUsersByDocuments(Set.of("CC9")))
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.error(new IllegalStateException("down")))
+                .thenReturn(Flux.just(user("CC9")));
+        var gw = gateway();
+
+        StepVerifier.create(gw.findUsersByDocuments(Set.of("CC9"))).verifyComplete();
+        StepVerifier.create(gw.findUsersByDocuments(Set.of("CC9"))).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(gw.findUsersByDocuments(Set.of("CC9"))).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(3)).findUsersByDocuments(Set.of("CC9"));
+    }
+
+    @Test
+    void findUsersByDocuments_disabled_alwaysDelegates() {
+        AtomicInteger lookups = new AtomicInteger();
+        stubLookups(lookups);
+        var gw = gateway(new UsersCacheProperties(false, Duration.ofMinutes(5), 100));
+
+        gw.findUsersByDocuments(Set.of("CC1")).blockLast();
+        gw.findUsersByDocuments(Set.of("CC1")).blockLast();
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void verify_isDelegated() {
+        when(delegate.verify("123", "a@b.c")).thenReturn(Mono.just(true));
+        var gw = gateway();
+
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+        verify(delegate).verify("123", "a@b.c");
+    }
+
+    @Test
+    void verify_repeatedPair_isServedFromMemory_evenWithDifferentCaseOrSpaces() {
+        when(delegate.verify(anyString(), anyString())).thenReturn(Mono.just(true));
+        var gw = gateway();
+
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+        StepVerifier.create(gw.verify(" 123 ", "A@B.C")).expectNext(true).verifyComplete();
+
+        verify(delegate, times(1)).verify(anyString(), anyString());
+        assertEquals(1.0, verifyCounter("miss"));
+        assertEquals(1.0, verifyCounter("hit"));
+    }
+
+    @Test
+    void verify_positiveAnswer_expiresAfterPositiveTtl() {
+        when(delegate.verify("123", "a@b.c")).thenReturn(Mono.just(true));
+        var gw = gateway();
+
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+        ticker.advance(Duration.ofSeconds(90));
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+        ticker.advance(Duration.ofSeconds(31));
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+
+        verify(delegate, times(2)).verify("123", "a@b.c");
+    }
+
+    @Test
+    void verify_negativeAnswer_usesShorterTtl() {
+        when(delegate.verify("123", "a@b.c")).thenReturn(Mono.just(false));
+        var gw = gateway();
+
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(false).verifyComplete();
+        ticker.advance(Duration.ofSeconds(10));
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(false).verifyComplete();
+        ticker.advance(Duration.ofSeconds(6));
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(false).verifyComplete();
+
+        verify(delegate, times(2)).verify("123", "a@b.c");
+    }
+
+    @Test
+    void verify_error_isNotCached() {
+        when(delegate.verify("123", "a@b.c"))
+                .thenReturn(Mono.error(new IllegalStateException("down")))
+                .thenReturn(Mono.just(true));
+        var gw = gateway();
+
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+
+        verify(delegate, times(2)).verify("123", "a@b.c");
+    }
+
+    @Test
+    void verify_concurrentSamePair_shareSingleCall() {
+        AtomicInteger verifyCalls = new AtomicInteger();
+        when(delegate.verify("123", "a@b.c")).thenReturn(Mono.defer(() -> {
+            verifyCalls.incrementAndGet();
+            return Mono.just(true).delayElement(Duration.ofMillis(50));
+        }));
+        var gw = gateway();
+
+        StepVerifier.create(Flux.merge(gw.verify("123", "a@b.c"), gw.verify("123", "a@b.c"), gw.verify("123", "a@b.c")))
+                .expectNext(true, true, true)
+                .verifyComplete();
+
+        assertEquals(1, verifyCalls.get());
+    }
+
+    @Test
+    void verify_disabled_alwaysDelegates() {
+        when(delegate.verify("123", "a@b.c")).thenReturn(Mono.just(true));
+        var gw = gateway(new VerificationCacheProperties(false, Duration.ofMinutes(2), Duration.ofSeconds(15), 100));
+
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+        StepVerifier.create(gw.verify("123", "a@b.c")).expectNext(true).verifyComplete();
+
+        verify(delegate, times(2)).verify("123", "a@b.c");
+    }
+
+    @Test
+    void findUsersByDocuments_concurrentCallsForSamePage_shareSingleCall() {
+        AtomicInteger lookups = new AtomicInteger();
+        when(delegate.findUsersByDocuments(Set.of("CC1"))).thenReturn(Flux.defer(() -> {
+            lookups.incrementAndGet();
+            return Flux.just(user("CC1")).delayElements(Duration.ofMillis(50));
+        }));
+        var gw = gateway();
+
+        StepVerifier.create(Flux.merge(gw.findUsersByDocuments(Set.of("CC1")), gw.findUsersByDocuments(Set.of("CC1"))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void verifyAll_concurrentSameSet_shareSingleCall() {
+        var credentials = Set.of(new UserCredentials("123", "a@b.c"));
+        AtomicInteger batches = new AtomicInteger();
+        when(delegate.verifyAll(credentials)).thenReturn(Mono.defer(() -> {
+            batches.incrementAndGet();
+            return Mono.just(credentials).delayElement(Duration.ofMillis(50));
+        }));
+        var gw = gateway();
+
+        StepVerifier.create(Flux.merge(gw.verifyAll(credentials), gw.verifyAll(credentials)))
+                .expectNext(credentials, credentials)
+                .verifyComplete();
+
+        assertEquals(1, batches.get());
+    }
+
+    @Test
+    void verifyAll_isDelegated() {
+        var credentials = Set.of(new UserCredentials("123", "a@b.c"));
+        when(delegate.verifyAll(credentials)).thenReturn(Mono.just(credentials));
+        var gw = gateway();
+
+        StepVerifier.create(gw.verifyAll(credentials)).expectNext(credentials).verifyComplete();
+        verify(delegate).verifyAll(credentials);
+    }
+
+    // ---------------- llamadas agrupadas por llamante ----------------
+
+    private static Context caller(String token) {
+        return ReactiveSecurityContextHolder.withSecurityContext(
+                Mono.just(new SecurityContextImpl(new UsernamePasswordAuthenticationToken("user", token))));
+    }
+
+    /** Como RestConsumer: el resultado depende del token del contexto. */
+    private static Mono<String> tokenOfCaller() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication().getCredentials().toString());
+    }
+
+    @Test
+    void loadUsers_concurrentCallsFromDifferentCallers_eachUseTheirOwnToken() {
+        when(delegate.loadUsers()).thenReturn(Flux.defer(() -> {
+            calls.incrementAndGet();
+            return tokenOfCaller().map(CachedUserManagementGatewayTest::user).delayElement(Duration.ofMillis(50)).flux();
+        }));
+        var gw = gateway();
+
+        StepVerifier.create(Flux.merge(
+                        gw.loadUsers().contextWrite(caller("token-a")),
+                        gw.loadUsers().contextWrite(caller("token-b")),
+                        gw.loadUsers().contextWrite(caller("token-a")))
+                        .map(User::getIdentityDocument)
+                        .collectList())
+                .assertNext(documents -> assertEquals(List.of("token-a", "token-a", "token-b"),
+                        documents.stream().sorted().toList()))
+                .verifyComplete();
+
+        // las dos peticiones con token-a comparten la llamada; token-b hace la suya
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void verify_otherCallersFailure_isNotSharedAcrossTokens() {
+        when(delegate.verify("123", "a@b.c")).thenReturn(tokenOfCaller()
+                .delayElement(Duration.ofMillis(50))
+                .flatMap(token -> token.equals("expired")
+                        ? Mono.error(new IllegalStateException("401"))
+                        : Mono.just(true)));
+        var gw = gateway(new VerificationCacheProperties(false, Duration.ofMinutes(2), Duration.ofSeconds(15), 100));
+
+        Mono<Boolean> expired = gw.verify("123", "a@b.c").contextWrite(caller("expired"));
+        Mono<Boolean> valid = gw.verify("123", "a@b.c").contextWrite(caller("valid"));
+
+        StepVerifier.create(Flux.merge(expired.onErrorReturn(false), valid).collectList())
+                .assertNext(results -> assertTrue(results.containsAll(List.of(false, true)), results::toString))
+                .verifyComplete();
+        verify(delegate, times(2)).verify("123", "a@b.c");
+    }
+
+    @Test
+    void verifyAll_concurrentCallsFromDifferentCallers_doNotShareACall() {
+        var credentials = Set.of(new UserCredentials("123", "a@b.c"));
+        AtomicInteger batches = new AtomicInteger();
+        when(delegate.verifyAll(credentials)).thenReturn(Mono.defer(() -> {
+            batches.incrementAndGet();
+            return Mono.just(credentials).delayElement(Duration.ofMillis(50));
+        }));
+        var gw = gateway();
+
+        StepVerifier.create(Flux.merge(
+                        gw.verifyAll(credentials).contextWrite(caller("token-a")),
+                        gw.verifyAll(credentials).contextWrite(caller("token-b"))))
+                .expectNext(credentials, credentials)
+                .verifyComplete();
+
+        assertEquals(2, batches.get());
+    }
+
+    /** Ticker manipulable para los vencimientos de Caffeine. */
+    static final class FakeTicker implements Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        void advance(Duration d) { nanos.addAndGet(d.toNanos()); }
+
+        @Override public long read() { return nanos.get(); }
+    }
+}
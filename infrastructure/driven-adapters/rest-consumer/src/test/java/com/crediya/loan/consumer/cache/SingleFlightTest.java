@@ -0,0 +1,97 @@
+package com.crediya.loan.consumer.cache;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> flights = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private Mono<Integer> slowCall(int value) {
+        return Mono.fromCallable(calls::incrementAndGet)
+                .delayElement(Duration.ofMillis(50))
+                .thenReturn(value);
+    }
+
+    @Test
+    void execute_concurrentSameKey_shareOneCallAndResult() {
+        StepVerifier.create(Flux.merge(
+                        flights.execute("k", () -> slowCall(1)),
+                        flights.execute("k", () -> slowCall(2)),
+                        flights.execute("k", () -> slowCall(3))))
+                .expectNext(1, 1, 1)
+                .verifyComplete();
+
+        assertEquals(1, calls.get());
+        assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    void execute_differentKeys_runIndependently() {
+        StepVerifier.create(Flux.merge(
+                        flights.execute("a", () -> slowCall(1)),
+                        flights.execute("b", () -> slowCall(2))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_afterCompletion_startsNewCall() {
+        StepVerifier.create(flights.execute("k", () -> slowCall(1))).expectNext(1).verifyComplete();
+        StepVerifier.create(flights.execute("k", () -> slowCall(2))).expectNext(2).verifyComplete();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_error_isSharedAndNotRetained() {
+        Sinks.One<Integer> sink = Sinks.one();
+        Mono<Integer> first = flights.execute("k", () -> {
+            calls.incrementAndGet();
+            return sink.asMono();
+        });
+        Mono<Integer> second = flights.execute("k", () -> slowCall(9));
+
+        StepVerifier.create(Flux.merge(first, second).then())
+                .then(() -> sink.tryEmitError(new IllegalStateException("down")))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(1, calls.get());
+        StepVerifier.create(flights.execute("k", () -> slowCall(5))).expectNext(5).verifyComplete();
+    }
+
+    @Test
+    void execute_oneSubscriberCancels_othersStillReceiveResult() {
+        Sinks.One<Integer> sink = Sinks.one();
+
+        StepVerifier.create(flights.execute("k", sink::asMono))
+                .thenCancel()
+                .verify();
+        StepVerifier.create(flights.execute("k", () -> slowCall(2)))
+                .then(() -> sink.tryEmitValue(1))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_runsWithFirstSubscriberContext() {
+        Mono<Integer> call = flights.execute("k", () -> Mono.deferContextual(ctx -> Mono.just(ctx.<Integer>get("token"))));
+
+        StepVerifier.create(call.contextWrite(Context.of("token", 42)))
+                .expectNext(42)
+                .verifyComplete();
+    }
+}
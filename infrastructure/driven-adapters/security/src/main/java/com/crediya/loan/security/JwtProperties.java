@@ -13,6 +13,15 @@ public class JwtProperties {
     /** Tiempo de expiración en segundos */
     private Long expirationSec;
 
+    /** Cachea los tokens ya verificados hasta su exp */
+    private boolean authCacheEnabled = true;
+
+    /** Máximo de tokens verificados retenidos */
+    private long authCacheMaxSize = 10_000;
+
+    /** Tope de permanencia en caché (segundos) para tokens sin exp o con exp lejano */
+    private long authCacheMaxTtlSec = 300;
+
     // Getter y Setter para secret
     public String getSecret() {
         return secret;
@@ -39,4 +48,28 @@ public class JwtProperties {
     public void setExpirationSec(Long expirationSec) {
         this.expirationSec = expirationSec;
     }
+
+    public boolean isAuthCacheEnabled() {
+        return authCacheEnabled;
+    }
+
+    public void setAuthCacheEnabled(boolean authCacheEnabled) {
+        this.authCacheEnabled = authCacheEnabled;
+    }
+
+    public long getAuthCacheMaxSize() {
+        return authCacheMaxSize;
+    }
+
+    public void setAuthCacheMaxSize(long authCacheMaxSize) {
+        this.authCacheMaxSize = authCacheMaxSize;
+    }
+
+    public long getAuthCacheMaxTtlSec() {
+        return authCacheMaxTtlSec;
+    }
+
+    public void setAuthCacheMaxTtlSec(long authCacheMaxTtlSec) {
+        this.authCacheMaxTtlSec = authCacheMaxTtlSec;
+    }
 }
@@ -1,9 +1,12 @@
 package com.crediya.loan.security;
 
+import com.crediya.loan.security.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,12 +24,27 @@ import java.util.stream.Collectors;
 @Component
 public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
 
-    private final SecretKey key;
     private final JwtProperties props;
+    // JwtParser es inmutable y thread-safe: se construye una sola vez
+    private final JwtParser parser;
+    // null si el caché está deshabilitado
+    private final VerifiedTokenCache verifiedTokens;
 
+    @Autowired
     public JwtReactiveAuthenticationManager(JwtProperties props) {
+        this(props, props.isAuthCacheEnabled()
+                ? new VerifiedTokenCache(props.getAuthCacheMaxSize(), Duration.ofSeconds(props.getAuthCacheMaxTtlSec()))
+                : null);
+    }
+
+    public JwtReactiveAuthenticationManager(JwtProperties props, VerifiedTokenCache verifiedTokens) {
         this.props = props;
-        this.key = Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.verifiedTokens = verifiedTokens;
+        SecretKey key = Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(Duration.ofSeconds(30).toSeconds())
+                .build();
     }
 
     @Override
@@ -34,22 +52,26 @@ public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationM
         String token = (String) authentication.getCredentials();
         if (token == null || token.isBlank()) return Mono.empty();
 
-        try {
-            var parser = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .setAllowedClockSkewSeconds(Duration.ofSeconds(30).toSeconds())
-                    .build();
+        if (verifiedTokens == null) {
+            VerifiedToken verified = verify(token);
+            return verified == null ? Mono.empty() : Mono.just(verified.authentication());
+        }
+        return Mono.justOrEmpty(verifiedTokens.get(token, this::verify));
+    }
 
+    /** Verifica firma, issuer y subject y arma la autenticación; {@code null} si el token no es válido. */
+    private VerifiedToken verify(String token) {
+        try {
             Jws<Claims> jws = parser.parseClaimsJws(token);
             Claims claims = jws.getBody();
 
             if (props.getIssuer() != null && !props.getIssuer().isBlank()) {
                 String iss = claims.getIssuer();
-                if (iss == null || !iss.equals(props.getIssuer())) return Mono.empty();
+                if (iss == null || !iss.equals(props.getIssuer())) return null;
             }
 
             String userId = claims.getSubject();
-            if (userId == null || userId.isBlank()) return Mono.empty();
+            if (userId == null || userId.isBlank()) return null;
 
             // 1) primero intenta roles como lista de strings
             @SuppressWarnings("unchecked")
@@ -66,10 +88,10 @@ public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationM
                     .collect(Collectors.toList());
 
             var auth = new UsernamePasswordAuthenticationToken(userId, token, authorities);
-            return Mono.just(auth);
+            return new VerifiedToken(auth, claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
 
         } catch (Exception e) {
-            return Mono.empty();
+            return null;
         }
     }
 
@@ -0,0 +1,113 @@
+package com.crediya.loan.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Tokens ya verificados y la {@link Authentication} que producen. La clave es el SHA-256 del token
+ * (tamaño fijo) y cada entrada vence en el {@code exp} del token, sin pasar de {@code maxTtl}.
+ * Los tokens inválidos no se guardan: cada intento vuelve a verificarse.
+ */
+public class VerifiedTokenCache {
+
+    /** Resultado de verificar un token: la autenticación y su vencimiento ({@code null} si no tiene exp). */
+    public record VerifiedToken(Authentication authentication, Instant expiresAt) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public VerifiedTokenCache(long maxSize, Duration maxTtl) {
+        this(maxSize, maxTtl, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(long maxSize, Duration maxTtl, Ticker ticker, Clock clock) {
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Devuelve la autenticación cacheada del token o la calcula con {@code verifier}; si este
+     * devuelve {@code null} (token inválido) el resultado es {@code null} y no se cachea.
+     */
+    public Authentication get(String token, Function<String, VerifiedToken> verifier) {
+        String key = digest(token);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.authentication();
+        }
+        VerifiedToken verified = verifier.apply(token);
+        if (verified == null) {
+            return null;
+        }
+        long ttlNanos = ttl(verified.expiresAt()).toNanos();
+        if (ttlNanos > 0) {
+            cache.put(key, new Entry(verified.authentication(), ttlNanos));
+        }
+        return verified.authentication();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private Duration ttl(Instant expiresAt) {
+        if (expiresAt == null) {
+            return maxTtl;
+        }
+        Duration untilExp = Duration.between(clock.instant(), expiresAt);
+        return untilExp.compareTo(maxTtl) < 0 ? untilExp : maxTtl;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 es obligatorio en toda JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Authentication authentication, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
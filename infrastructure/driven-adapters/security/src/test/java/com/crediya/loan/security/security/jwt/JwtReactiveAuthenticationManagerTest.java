@@ -2,6 +2,7 @@ package com.crediya.loan.security.security.jwt;
 
 import com.crediya.loan.security.JwtProperties;
 import com.crediya.loan.security.JwtReactiveAuthenticationManager;
+import com.crediya.loan.security.VerifiedTokenCache;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +12,13 @@ import org.springframework.security.core.Authentication;
 import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 class JwtReactiveAuthenticationManagerTest {
 
     private JwtReactiveAuthenticationManager manager;
@@ -107,4 +111,46 @@ class JwtReactiveAuthenticationManagerTest {
                 )
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void authenticate_sameTokenTwice_reusesVerifiedAuthentication() {
+        var cache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+        manager = new JwtReactiveAuthenticationManager(props, cache);
+        String token = generateToken(Map.of("roles", List.of("ADMIN")), "user123", "crediya");
+
+        Authentication first = manager.authenticate(new UsernamePasswordAuthenticationToken("ignored", token)).block();
+        Authentication second = manager.authenticate(new UsernamePasswordAuthenticationToken("ignored", token)).block();
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void authenticate_tokenSignedWithOtherKey_isRejectedAndNotCached() {
+        var cache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+        manager = new JwtReactiveAuthenticationManager(props, cache);
+        String tampered = Jwts.builder()
+                .setSubject("user123")
+                .setIssuer("crediya")
+                .signWith(io.jsonwebtoken.security.Keys.hmacShaKeyFor(
+                        "otrosecretootrosecretootrosecreto12".getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        StepVerifier.create(manager.authenticate(new UsernamePasswordAuthenticationToken("ignored", tampered)))
+                .verifyComplete();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void authenticate_cacheDisabled_stillAuthenticates() {
+        props.setAuthCacheEnabled(false);
+        manager = new JwtReactiveAuthenticationManager(props);
+        String token = generateToken(Map.of("roleId", "3"), "user123", "crediya");
+
+        StepVerifier.create(manager.authenticate(new UsernamePasswordAuthenticationToken("ignored", token)))
+                .expectNextMatches(a -> a.getAuthorities().stream().anyMatch(ga -> ga.getAuthority().equals("ROLE_ADMIN")))
+                .verifyComplete();
+    }
+}
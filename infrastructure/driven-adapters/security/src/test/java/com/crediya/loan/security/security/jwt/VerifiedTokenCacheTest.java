@@ -0,0 +1,99 @@
+package com.crediya.loan.security.security.jwt;
+
+import com.crediya.loan.security.VerifiedTokenCache;
+import com.crediya.loan.security.VerifiedTokenCache.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-01T10:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(100, Duration.ofMinutes(5), ticker, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static Authentication auth(String token) {
+        return new UsernamePasswordAuthenticationToken("user", token, List.of());
+    }
+
+    private VerifiedToken verifyExpiringAt(String token, Instant exp) {
+        verifications.incrementAndGet();
+        return new VerifiedToken(auth(token), exp);
+    }
+
+    private void advance(Duration d) {
+        nanos.addAndGet(d.toNanos());
+    }
+
+    @Test
+    void get_sameToken_verifiesOnce() {
+        Authentication first = cache.get("t1", t -> verifyExpiringAt(t, NOW.plusSeconds(60)));
+        Authentication second = cache.get("t1", t -> verifyExpiringAt(t, NOW.plusSeconds(60)));
+
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void get_entryExpiresAtTokenExp() {
+        cache.get("t1", t -> verifyExpiringAt(t, NOW.plusSeconds(60)));
+        advance(Duration.ofSeconds(59));
+        cache.get("t1", t -> verifyExpiringAt(t, NOW.plusSeconds(60)));
+        advance(Duration.ofSeconds(2));
+        cache.get("t1", t -> verifyExpiringAt(t, NOW.plusSeconds(60)));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_tokenWithoutExp_isCappedByMaxTtl() {
+        cache.get("t1", t -> verifyExpiringAt(t, null));
+        advance(Duration.ofMinutes(5).plusSeconds(1));
+        cache.get("t1", t -> verifyExpiringAt(t, null));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_invalidToken_isNotCached() {
+        assertNull(cache.get("bad", t -> {
+            verifications.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("bad", t -> {
+            verifications.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_alreadyExpiredToken_isNotCached() {
+        cache.get("t1", t -> verifyExpiringAt(t, NOW.minusSeconds(5)));
+
+        assertEquals(0, cache.size());
+    }
+}
@@ -14,8 +14,7 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @Component
 public class ApiErrorFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
@@ -25,66 +24,59 @@ public class ApiErrorFilter implements HandlerFilterFunction<ServerResponse, Ser
         return next.handle(req)
                 // --- específicas básicas ---
                 .onErrorResume(ValidationException.class,
-                        ex -> respond(req, HttpStatus.BAD_REQUEST, ex.getMessage(),
-                                Map.of("field", ex.getField())))
+                        ex -> respond(req, HttpStatus.BAD_REQUEST, ex.getMessage(), ex.getField(), null))
 
                 .onErrorResume(ConstraintViolationException.class,
                         ex -> respond(req, HttpStatus.BAD_REQUEST, "Datos de entrada inválidos",
-                                Map.of("violations", violationsToList(ex))))
+                                null, violationsToList(ex)))
 
                 .onErrorResume(IllegalArgumentException.class,
-                        ex -> respond(req, HttpStatus.BAD_REQUEST, ex.getMessage(), null))
+                        ex -> respond(req, HttpStatus.BAD_REQUEST, ex.getMessage(), null, null))
 
                 // --- unwrap (reactor) + fallback ---
                 .onErrorResume(t -> {
                     Throwable e = Exceptions.unwrap(t);
                     if (e instanceof ValidationException ve) {
-                        return respond(req, HttpStatus.BAD_REQUEST, ve.getMessage(),
-                                Map.of("field", ve.getField()));
+                        return respond(req, HttpStatus.BAD_REQUEST, ve.getMessage(), ve.getField(), null);
                     } else if (e instanceof ConstraintViolationException ve) {
                         return respond(req, HttpStatus.BAD_REQUEST, "Datos de entrada inválidos",
-                                Map.of("violations", violationsToList(ve)));
+                                null, violationsToList(ve));
                     } else if (e instanceof IllegalArgumentException iae) {
-                        return respond(req, HttpStatus.BAD_REQUEST, iae.getMessage(), null);
+                        return respond(req, HttpStatus.BAD_REQUEST, iae.getMessage(), null, null);
                     }
-                    return respond(req, HttpStatus.INTERNAL_SERVER_ERROR, "Ocurrió un error inesperado", null);
+                    return respond(req, HttpStatus.INTERNAL_SERVER_ERROR, "Ocurrió un error inesperado", null, null);
                 })
                 .switchIfEmpty(ServerResponse.noContent().build());
     }
 
     // ---------- helpers mínimos (autosuficientes) ----------
 
-    private Mono<ServerResponse> respond(ServerRequest req, HttpStatus status,
-                                         String message, Map<String, ?> data) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", OffsetDateTime.now().toString());
-        body.put("status", status.value());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", message);
-        body.put("path", req.path());
-        body.put("method", req.methodName());
-        if (data != null && !data.isEmpty()) {
-            body.putAll(data);
-        }
+    // record tipado en lugar de un LinkedHashMap: mismo JSON, sin mapa intermedio ni serializador de Map
+    private Mono<ServerResponse> respond(ServerRequest req, HttpStatus status, String message,
+                                         String field, List<ApiErrorResponse.Violation> violations) {
+        ApiErrorResponse body = new ApiErrorResponse(
+                OffsetDateTime.now().toString(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                req.path(),
+                req.methodName(),
+                field,
+                violations);
         return ServerResponse.status(status)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(body);
     }
 
-    private List<Map<String, Object>> violationsToList(ConstraintViolationException ex) {
+    private List<ApiErrorResponse.Violation> violationsToList(ConstraintViolationException ex) {
         return ex.getConstraintViolations()
                 .stream()
-                .map(this::toMap)
-                .collect(Collectors.toList());
+                .map(this::toViolation)
+                .toList();
     }
 
-    private Map<String, Object> toMap(ConstraintViolation<?> v) {
+    private ApiErrorResponse.Violation toViolation(ConstraintViolation<?> v) {
         String field = v.getPropertyPath() != null ? v.getPropertyPath().toString() : null;
-        Object rejected = v.getInvalidValue();
-        Map<String, Object> m = new LinkedHashMap<>();
-        m.put("field", field);
-        m.put("message", v.getMessage());
-        m.put("rejected", rejected);
-        return m;
+        return new ApiErrorResponse.Violation(field, v.getMessage(), v.getInvalidValue());
     }
 }
@@ -1,8 +1,15 @@
 package com.crediya.loan.api;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+
+/**
+ * Cuerpo de error que escribe {@link ApiErrorFilter}. {@code field} y {@code violations} solo
+ * aparecen en los errores de validación; el resto de campos siempre se serializa, aunque sea null.
+ */
 @Schema(name = "ApiErrorResponse")
 public record ApiErrorResponse(
         @Schema(example = "2025-08-28T05:18:04Z") String timestamp,
@@ -10,5 +17,20 @@ public record ApiErrorResponse(
         @Schema(example = "Bad Request") String error,
         @Schema(example = "Datos de entrada inválidos") String message,
         @Schema(example = "/api/v1/usuarios") String path,
-        @Schema(example = "POST") String method
-) {}
+        @Schema(example = "POST") String method,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(example = "amount") String field,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<Violation> violations
+) {
+
+    public ApiErrorResponse(String timestamp, int status, String error, String message, String path, String method) {
+        this(timestamp, status, error, message, path, method, null, null);
+    }
+
+    @Schema(name = "ApiErrorViolation")
+    public record Violation(
+            @Schema(example = "email") String field,
+            @Schema(example = "must not be blank") String message,
+            Object rejected
+    ) {}
+}
@@ -1,16 +1,21 @@
 package com.crediya.loan.api;
 
+import com.crediya.loan.api.controller.ApplicationBatchHandler;
+import com.crediya.loan.api.controller.ApplicationExportHandler;
 import com.crediya.loan.api.controller.ApplicationHandler;
 import com.crediya.loan.api.dto.ApplicationPaginedDto;
 import com.crediya.loan.api.dto.ApplicationResponseDto;
 import com.crediya.loan.api.dto.ApplicationSaveDto;
+import com.crediya.loan.api.dto.BatchResponseDto;
 import com.crediya.loan.usecase.shared.PagindData;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import org.springdoc.core.annotations.RouterOperation;
 import org.springdoc.core.annotations.RouterOperations;
 import org.springframework.context.annotation.Bean;
@@ -49,6 +54,27 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/solicitud/batch",
+                    method = RequestMethod.POST,
+                    beanClass = ApplicationBatchHandler.class,
+                    beanMethod = "createApplications",
+                    operation = @Operation(
+                            operationId = "createApplicationsBatch",
+                            summary = "Generar varias solicitudes en un solo envío (máximo 500)",
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApplicationSaveDto.class)))
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "OK; cada solicitud indica si fue creada o rechazada",
+                                            content = @Content(schema = @Schema(implementation = BatchResponseDto.class))
+                                    )
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/solicitud/pending",
                     method = RequestMethod.GET,
@@ -59,16 +85,60 @@ public class RouterRest {
                             summary = "Listar solicitudes paginadas",
                             parameters = {
                                     @Parameter(name = "page", description = "Número de página (1-based)", example = "1"),
-                                    @Parameter(name = "size", description = "Tamaño de página", example = "10"),
+                                    @Parameter(name = "size", description = "Tamaño de página (máximo 100)", example = "10"),
+                                    @Parameter(name = "cursor", description = "Token 'next' de la respuesta anterior; si se envía se ignora page"),
+                                    @Parameter(name = "count", description = "Cálculo del total: exact, cached (por defecto) o none", example = "cached"),
+                                    @Parameter(name = "state", description = "Estado de la solicitud", example = "APROBADO"),
+                                    @Parameter(name = "document", description = "Documento del solicitante", example = "12345678"),
+                                    @Parameter(name = "email", description = "Inicio del email (emailMatch=prefix por defecto); la búsqueda parcial en cualquier posición requiere emailMatch=contains", example = "juan.perez@"),
+                                    @Parameter(name = "emailMatch", description = "Comparación del email: prefix (por defecto), exact, fulltext o contains (lento, recorre la tabla)", example = "prefix"),
+                                    @Parameter(name = "states", description = "Códigos de estado separados por coma", example = "PEN,REV"),
+                                    @Parameter(name = "loanTypes", description = "Ids de tipo de préstamo separados por coma", example = "1,2"),
+                                    @Parameter(name = "minAmount", description = "Monto mínimo", example = "1000000"),
+                                    @Parameter(name = "maxAmount", description = "Monto máximo", example = "5000000"),
+                                    @Parameter(name = "termFrom", description = "Plazo desde (yyyy-MM-dd)", example = "2025-01-01"),
+                                    @Parameter(name = "termTo", description = "Plazo hasta (yyyy-MM-dd)", example = "2026-12-31"),
+                                    @Parameter(name = "If-None-Match", in = ParameterIn.HEADER, description = "ETag de una respuesta anterior; si el listado no cambió se responde 304")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "OK; incluye ETag. JSON por defecto, Smile o CBOR según el Accept",
+                                            content = {
+                                                    @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationPaginedDto.class)),
+                                                    @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = ApplicationPaginedDto.class)),
+                                                    @Content(mediaType = "application/cbor", schema = @Schema(implementation = ApplicationPaginedDto.class))
+                                            }
+                                    ),
+                                    @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/solicitud/export",
+                    method = RequestMethod.GET,
+                    beanClass = ApplicationExportHandler.class,
+                    beanMethod = "exportApplications",
+                    operation = @Operation(
+                            operationId = "exportApplications",
+                            summary = "Exportar solicitudes (NDJSON o CSV, en streaming)",
+                            parameters = {
+                                    @Parameter(name = "format", description = "ndjson (por defecto) o csv; también se respeta Accept: text/csv", example = "csv"),
                                     @Parameter(name = "state", description = "Estado de la solicitud", example = "APROBADO"),
                                     @Parameter(name = "document", description = "Documento del solicitante", example = "12345678"),
-                                    @Parameter(name = "email", description = "Email o búsqueda parcial", example = "gmail")
+                                    @Parameter(name = "email", description = "Inicio del email (emailMatch=prefix por defecto); la búsqueda parcial en cualquier posición requiere emailMatch=contains", example = "juan.perez@"),
+                                    @Parameter(name = "emailMatch", description = "Comparación del email: prefix (por defecto), exact, fulltext o contains (lento, recorre la tabla)", example = "prefix"),
+                                    @Parameter(name = "states", description = "Códigos de estado separados por coma", example = "PEN,REV"),
+                                    @Parameter(name = "loanTypes", description = "Ids de tipo de préstamo separados por coma", example = "1,2")
                             },
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "OK",
-                                            content = @Content(schema = @Schema(implementation = ApplicationPaginedDto.class))
+                                            content = {
+                                                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ApplicationPaginedDto.class)),
+                                                    @Content(mediaType = "text/csv")
+                                            }
                                     )
                             }
                     )
@@ -76,10 +146,14 @@ public class RouterRest {
     })
     public RouterFunction<ServerResponse> routerFunction(
             ApplicationHandler handler,
+            ApplicationExportHandler exportHandler,
+            ApplicationBatchHandler batchHandler,
             ApiErrorFilter errorFilter
     ) {
         return route(POST("/api/v1/solicitud"), handler::createApplication)
+                .andRoute(POST("/api/v1/solicitud/batch"), batchHandler::createApplications)
                 .andRoute(GET("/api/v1/solicitud/pending"), handler::findApplications)
+                .andRoute(GET("/api/v1/solicitud/export"), exportHandler::exportApplications)
                 .filter(errorFilter);
     }
 }
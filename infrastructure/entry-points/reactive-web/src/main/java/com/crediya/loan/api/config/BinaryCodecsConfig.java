@@ -0,0 +1,37 @@
+package com.crediya.loan.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+
+/**
+ * Formatos binarios por negociación de contenido: con {@code Accept: application/x-jackson-smile} o
+ * {@code Accept: application/cbor} las respuestas que no fijan Content-Type ({@code ApiResponse},
+ * {@code PagedResponseDto}) salen en Smile o CBOR; sin Accept, o si el cliente acepta cualquier tipo,
+ * sigue siendo JSON.
+ * Los mappers se copian del ObjectMapper de Spring Boot, así que módulos, fechas y reglas de
+ * inclusión son las mismas que en JSON. CBOR solo se codifica como valor único (no en streaming).
+ */
+@Configuration
+public class BinaryCodecsConfig {
+
+    @Bean
+    CodecCustomizer binaryCodecsCustomizer(ObjectMapper objectMapper) {
+        ObjectMapper smile = objectMapper.copyWith(new SmileFactory());
+        ObjectMapper cbor = objectMapper.copyWith(new CBORFactory());
+        return configurer -> {
+            // Spring ya registra Smile si está en el classpath, pero con un mapper propio sin la configuración de Boot
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(cbor));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cbor));
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.crediya.loan.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.log.LogFormatUtils;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Encoder JSON de WebFlux que, para los tipos de respuesta conocidos, reutiliza un {@link ObjectWriter}
+ * construido al arrancar (con el serializador raíz ya resuelto) en lugar de armar uno por respuesta.
+ * Cualquier otro valor, las vistas JSON y los charsets distintos de UTF-8 siguen el camino de
+ * {@link Jackson2JsonEncoder}; el streaming (NDJSON) no pasa por aquí.
+ */
+public class CachedWriterJsonEncoder extends Jackson2JsonEncoder {
+
+    private final Map<Class<?>, ObjectWriter> writers;
+
+    public CachedWriterJsonEncoder(ObjectMapper mapper, Collection<Class<?>> types) {
+        super(mapper);
+        this.writers = types.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), mapper::writerFor));
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        ObjectWriter writer = writers.get(value.getClass());
+        if (writer == null || !isUtf8(mimeType) || (hints != null && hints.containsKey(JSON_VIEW_HINT))) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+
+        if (!Hints.isLoggingSuppressed(hints)) {
+            LogFormatUtils.traceDebug(logger, traceOn -> Hints.getLogPrefix(hints) + "Encoding [" +
+                    LogFormatUtils.formatValue(value, !traceOn) + "]");
+        }
+        try {
+            return bufferFactory.wrap(writer.writeValueAsBytes(value));
+        } catch (JsonProcessingException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private static boolean isUtf8(@Nullable MimeType mimeType) {
+        return mimeType == null || mimeType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mimeType.getCharset());
+    }
+}
@@ -0,0 +1,42 @@
+package com.crediya.loan.api.config;
+
+import com.crediya.loan.api.ApiErrorResponse;
+import com.crediya.loan.api.dto.ApiResponse;
+import com.crediya.loan.api.dto.PagedResponseDto;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+/**
+ * Serialización JSON de las respuestas:
+ * <ul>
+ *   <li>Blackbird: Spring Boot registra el módulo en su ObjectMapper, que pasa a leer y escribir
+ *   propiedades con lambdas generadas ({@code LambdaMetafactory}) en lugar de reflexión. Los mappers
+ *   de Smile y CBOR ({@link BinaryCodecsConfig}) son copias y lo heredan.</li>
+ *   <li>{@link CachedWriterJsonEncoder} con writers ya construidos para los tipos que devuelven los handlers.</li>
+ * </ul>
+ */
+@Configuration
+public class JacksonConfig {
+
+    static final List<Class<?>> RESPONSE_TYPES = List.of(ApiResponse.class, PagedResponseDto.class, ApiErrorResponse.class);
+
+    @Bean
+    Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // después del customizer de Jackson de Spring Boot (orden 0), que registra el encoder por defecto
+    @Bean
+    @Order(1)
+    CodecCustomizer cachedWritersCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.defaultCodecs()
+                .jackson2JsonEncoder(new CachedWriterJsonEncoder(objectMapper, RESPONSE_TYPES));
+    }
+}
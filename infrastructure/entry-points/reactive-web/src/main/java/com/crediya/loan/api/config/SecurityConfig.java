@@ -29,6 +29,8 @@ public class SecurityConfig {
                 .securityContextRepository(contextRepo)
                 .authorizeExchange(ex -> ex
                         .pathMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // Recarga manual del caché de datos de referencia
+                        .pathMatchers(HttpMethod.POST, "/actuator/referencedata").hasRole("ADMIN")
                         // Swagger completo abierto
                         .pathMatchers("/v3/api-docs/**",
                                 "/swagger-ui.html",
@@ -37,9 +39,11 @@ public class SecurityConfig {
                                 "/actuator/**").permitAll()
                         // Regla de lisdatod e solicitudes
                         .pathMatchers(HttpMethod.GET, "/api/v1/solicitud/pending").hasAnyRole("ADMIN","ASESOR")
+                        .pathMatchers(HttpMethod.GET, "/api/v1/solicitud/export").hasAnyRole("ADMIN","ASESOR")
 
                         // Regla datos de usuario
                         .pathMatchers(HttpMethod.POST, "/api/v1/solicitud").hasAnyRole("ADMIN","ASESOR","CLIENTE")
+                        .pathMatchers(HttpMethod.POST, "/api/v1/solicitud/batch").hasAnyRole("ADMIN","ASESOR","CLIENTE")
 
                         //.hasAnyRole("CLIENTE")
                         // Resto autenticado
@@ -0,0 +1,55 @@
+package com.crediya.loan.api.controller;
+
+import com.crediya.loan.api.applicationMapper.ApplicationMapper;
+import com.crediya.loan.api.dto.ApiResponse;
+import com.crediya.loan.api.dto.ApplicationSaveDto;
+import com.crediya.loan.api.dto.BatchItemResponseDto;
+import com.crediya.loan.api.dto.BatchResponseDto;
+import com.crediya.loan.model.application.BatchItemResult;
+import com.crediya.loan.usecase.generaterequest.GenerateBatchRequestUseCase;
+import com.crediya.loan.usecase.shared.Messages;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Recibe un arreglo JSON de solicitudes y responde el resultado de cada una.
+ * Las validaciones por solicitud las hace el caso de uso: una solicitud inválida se reporta
+ * como rechazada sin invalidar el resto del lote.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationBatchHandler {
+
+    private final GenerateBatchRequestUseCase generateBatchRequestUseCase;
+    private final ApplicationMapper applicationMapper;
+
+    public Mono<ServerResponse> createApplications(ServerRequest request) {
+        final String path = request.path();
+
+        return request.bodyToFlux(ApplicationSaveDto.class)
+                // un elemento de más basta para que el caso de uso rechace el lote por tamaño
+                .take(GenerateBatchRequestUseCase.MAX_BATCH_SIZE + 1L)
+                .map(applicationMapper::toModel)
+                .collectList()
+                .doOnNext(apps -> log.debug("[createApplications] Lote recibido con {} solicitudes", apps.size()))
+                .flatMap(generateBatchRequestUseCase::execute)
+                .map(results -> BatchResponseDto.of(results.stream().map(this::toItemDto).toList()))
+                .flatMap(dto -> ServerResponse.ok()
+                        .bodyValue(ApiResponse.ok(dto, Messages.BATCH_PROCESSED, path)));
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private BatchItemResponseDto toItemDto(BatchItemResult result) {
+        return result.isCreated()
+                ? new BatchItemResponseDto(result.index(), BatchItemResponseDto.CREATED,
+                        applicationMapper.toResponseDto(result.application()), null, null)
+                : new BatchItemResponseDto(result.index(), BatchItemResponseDto.REJECTED,
+                        null, result.field(), result.message());
+    }
+}
@@ -0,0 +1,71 @@
+package com.crediya.loan.api.controller;
+
+import com.crediya.loan.api.applicationMapper.ApplicationPaginedMapper;
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.api.export.ApplicationCsvFormat;
+import com.crediya.loan.api.pagination.CriteriaQueryParser;
+import com.crediya.loan.usecase.exportapplications.ExportApplicationsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exportación de solicitudes como NDJSON (por defecto) o CSV. La respuesta se escribe a medida que
+ * llegan las filas de la base de datos, sin armar el resultado completo en memoria.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationExportHandler {
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    static final String FORMAT_PARAM = "format";
+
+    private final ExportApplicationsUseCase exportApplicationsUseCase;
+    private final ApplicationPaginedMapper applicationPaginedMapper;
+
+    public Mono<ServerResponse> exportApplications(ServerRequest request) {
+        return Mono.fromCallable(() -> CriteriaQueryParser.parse(request))
+                .doOnNext(criteria -> log.debug("[exportApplications] Exportando con criteria={}", criteria))
+                .flatMap(criteria -> {
+                    Flux<ApplicationPaginedDto> rows = exportApplicationsUseCase.execute(criteria)
+                            .map(applicationPaginedMapper::toResponseDto);
+                    return wantsCsv(request) ? csv(rows) : ndjson(rows);
+                });
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private boolean wantsCsv(ServerRequest request) {
+        return request.queryParam(FORMAT_PARAM)
+                .map(format -> format.equalsIgnoreCase("csv"))
+                .orElseGet(() -> request.headers().accept().stream()
+                        .anyMatch(type -> type.isCompatibleWith(TEXT_CSV) && !type.isWildcardType()));
+    }
+
+    private Mono<ServerResponse> ndjson(Flux<ApplicationPaginedDto> rows) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(rows, ApplicationPaginedDto.class);
+    }
+
+    private Mono<ServerResponse> csv(Flux<ApplicationPaginedDto> rows) {
+        Flux<String> lines = Flux.concat(
+                Mono.just(ApplicationCsvFormat.HEADER),
+                rows.map(ApplicationCsvFormat::row));
+        return ServerResponse.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("solicitudes.csv").build().toString())
+                .body(lines, String.class);
+    }
+}
@@ -4,30 +4,39 @@ package com.crediya.loan.api.controller;
 import com.crediya.loan.api.applicationMapper.ApplicationMapper;
 import com.crediya.loan.api.applicationMapper.ApplicationPaginedMapper;
 import com.crediya.loan.api.dto.ApiResponse;
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
 import com.crediya.loan.api.dto.ApplicationResponseDto;
 import com.crediya.loan.api.dto.ApplicationSaveDto;
 import com.crediya.loan.api.dto.PagedResponseDto;
+import com.crediya.loan.api.pagination.CriteriaQueryParser;
+import com.crediya.loan.api.pagination.CursorCodec;
+import com.crediya.loan.api.pagination.ListingETag;
 import com.crediya.loan.model.application.PendingApplicationsCriteria;
 import com.crediya.loan.usecase.generaterequest.GenerateRequestUseCase;
 import com.crediya.loan.usecase.getpendingapplications.GetPendingApplicationsUseCase;
 import com.crediya.loan.usecase.shared.Messages;
-import com.crediya.loan.usecase.shared.PagindData;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
-import static java.lang.Integer.parseInt;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ApplicationHandler {
 
+    // reemplaza el no-store global: el cliente puede guardar la página, pero siempre revalida con el ETag
+    private static final CacheControl LISTING_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    // la misma página puede salir en JSON, Smile o CBOR y comprimida o no: la caché debe distinguirlas
+    private static final String[] LISTING_VARY = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING};
+
     private final GenerateRequestUseCase generateRequestUseCase;
     private final GetPendingApplicationsUseCase getPendingApplicationsUseCase;
     private final ApplicationMapper applicationMapper ;
@@ -50,37 +59,51 @@ public class ApplicationHandler {
             .map(applicationMapper::toModel)
             .flatMap(generateRequestUseCase::execute)
             .map(applicationMapper::toResponseDto)
+            // sin Content-Type fijo: JSON por defecto, Smile o CBOR según el Accept
             .flatMap((ApplicationResponseDto dto) -> ServerResponse.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(ApiResponse.ok(dto, Messages.APPLICATION_CREATED, path))
             );
 
     }
 
+    /**
+     * GET condicional: el ETag se calcula sobre la página que se va a responder, así que refleja
+     * cualquier cambio en sus filas (también los cambios de estado y las escrituras de otras
+     * instancias) sin una consulta extra. Si coincide con el If-None-Match del cliente se responde
+     * 304 sin cuerpo: se ahorra la serialización, la compresión y la transferencia.
+     */
     public Mono<ServerResponse> findApplications(ServerRequest request) {
-        String estado    = request.queryParam(PagindData.PAGINED_STATE).orElse(null);
-        String documento = request.queryParam(PagindData.PAGINED_DOCUMENT).orElse(null);
-        String email     = request.queryParam(PagindData.PAGINED_EMAIL).orElse(null);
-        int page         = Integer.parseInt(request.queryParam(PagindData.PAGINED_PAGE).orElse(PagindData.PAGINED_PAGE_VALUE));
-        int size         = Integer.parseInt(request.queryParam(PagindData.PAGINED_SIZE).orElse(PagindData.PAGINED_SIZE_VALUE));
-
-        var criteria = new PendingApplicationsCriteria(estado, documento, email, page, size);
+        return Mono.fromCallable(() -> CriteriaQueryParser.parse(request))
+                .flatMap(this::findPage)
+                .flatMap(dto -> {
+                    String etag = ListingETag.of(dto);
+                    return request.checkNotModified(etag)
+                            .flatMap(notModified -> ServerResponse.from(notModified)
+                                    .cacheControl(LISTING_CACHE_CONTROL)
+                                    .varyBy(LISTING_VARY)
+                                    .build())
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(etag)
+                                    .cacheControl(LISTING_CACHE_CONTROL)
+                                    .varyBy(LISTING_VARY)
+                                    .bodyValue(dto)));
+                });
+    }
 
+    private Mono<PagedResponseDto<ApplicationPaginedDto>> findPage(PendingApplicationsCriteria criteria) {
         return getPendingApplicationsUseCase.execute(criteria)
-                .doOnSubscribe(sub -> log.info("[findApplications] Buscando aplicaciones con criteria={}", criteria))
-                .doOnNext(p -> log.info("[findApplications] Resultados obtenidos: {} elementos (total={})",
+                .doOnSubscribe(sub -> log.debug("[findApplications] Buscando aplicaciones con criteria={}", criteria))
+                .doOnNext(p -> log.debug("[findApplications] Resultados obtenidos: {} elementos (total={})",
                         p.content().size(), p.totalElements()))
                 .map(p -> new PagedResponseDto<>(
                         p.page(),
                         p.size(),
                         p.totalElements(),
-                        p.content().stream().map(applicationPaginedMapper::toResponseDto).toList()
-                ))
-                .flatMap(dto -> ServerResponse.ok().bodyValue(dto));
-
+                        p.content().stream().map(applicationPaginedMapper::toResponseDto).toList(),
+                        CursorCodec.encode(p.nextCursor()),
+                        p.hasNext()
+                ));
     }
 
 
-
-
 }
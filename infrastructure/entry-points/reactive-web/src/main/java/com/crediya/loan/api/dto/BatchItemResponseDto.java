@@ -0,0 +1,19 @@
+package com.crediya.loan.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado de una solicitud del lote. {@code application} viene solo si fue creada;
+ * {@code field} y {@code message} solo si fue rechazada.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponseDto(
+        int index,
+        String status,
+        ApplicationResponseDto application,
+        String field,
+        String message
+) {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+}
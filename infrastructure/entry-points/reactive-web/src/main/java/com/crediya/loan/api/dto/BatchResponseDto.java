@@ -0,0 +1,15 @@
+package com.crediya.loan.api.dto;
+
+import java.util.List;
+
+public record BatchResponseDto(
+        int total,
+        long created,
+        long rejected,
+        List<BatchItemResponseDto> items
+) {
+    public static BatchResponseDto of(List<BatchItemResponseDto> items) {
+        long created = items.stream().filter(i -> BatchItemResponseDto.CREATED.equals(i.status())).count();
+        return new BatchResponseDto(items.size(), created, items.size() - created, items);
+    }
+}
@@ -6,18 +6,31 @@ import java.util.List;
 public class PagedResponseDto<T> {
     private int page_number;
     private int page_size;
-    private long total_record_count;
+    // null cuando se pidió count=none
+    private Long total_record_count;
     private List<T> records;
+    // token opaco para pedir la siguiente página con ?cursor=; null si no hay más registros
+    private String next;
+    private Boolean has_next;
 
-    public PagedResponseDto(int page_number, int page_size, long total_record_count, List<T> records) {
+    public PagedResponseDto(int page_number, int page_size, Long total_record_count, List<T> records) {
+        this(page_number, page_size, total_record_count, records, null, null);
+    }
+
+    public PagedResponseDto(int page_number, int page_size, Long total_record_count, List<T> records,
+                            String next, Boolean has_next) {
         this.page_number = page_number;
         this.page_size = page_size;
         this.total_record_count = total_record_count;
         this.records = records;
+        this.next = next;
+        this.has_next = has_next;
     }
 
     public int getPage_number() { return page_number; }
     public int getPage_size() { return page_size; }
-    public long getTotal_record_count() { return total_record_count; }
+    public Long getTotal_record_count() { return total_record_count; }
     public List<T> getRecords() { return records; }
-}
\ No newline at end of file
+    public String getNext() { return next; }
+    public Boolean getHas_next() { return has_next; }
+}
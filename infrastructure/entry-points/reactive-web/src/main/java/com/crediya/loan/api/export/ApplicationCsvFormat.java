@@ -0,0 +1,52 @@
+package com.crediya.loan.api.export;
+
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Formato CSV (RFC 4180) de la exportación de solicitudes: una línea por registro, terminada en CRLF.
+ */
+public final class ApplicationCsvFormat {
+
+    public static final String HEADER = line(Stream.of(
+            "id", "amount", "term", "email", "identityDocument", "state", "loan",
+            "stateId", "loanTypeId", "fullName", "baseSalary"));
+
+    private ApplicationCsvFormat() {
+    }
+
+    public static String row(ApplicationPaginedDto dto) {
+        return line(Stream.of(
+                dto.id(), dto.amount(), dto.term(), dto.email(), dto.identityDocument(), dto.state(), dto.loan(),
+                dto.stateId(), dto.loanTypeId(), dto.fullName(), dto.baseSalary()));
+    }
+
+    private static String line(Stream<?> values) {
+        return values.map(value -> escape(Objects.toString(value, "")))
+                .collect(Collectors.joining(",", "", "\r\n"));
+    }
+
+    /**
+     * Entrecomilla si hace falta y neutraliza valores que una hoja de cálculo interpretaría como fórmula.
+     */
+    static String escape(String value) {
+        if (value.isEmpty()) return value;
+        String safe = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 && !isNumber(value) ? "'" + value : value;
+        if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            new java.math.BigDecimal(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.crediya.loan.api.pagination;
+
+import com.crediya.loan.model.application.CountMode;
+import com.crediya.loan.model.application.EmailMatchMode;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.usecase.shared.Messages;
+import com.crediya.loan.usecase.shared.PagindData;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Convierte los query params del listado (y de la exportación) en {@link PendingApplicationsCriteria}.
+ */
+public final class CriteriaQueryParser {
+
+    private CriteriaQueryParser() {
+    }
+
+    /**
+     * @throws IllegalArgumentException si algún parámetro no tiene formato válido (el ApiErrorFilter responde 400)
+     */
+    public static PendingApplicationsCriteria parse(ServerRequest request) {
+        String estado    = request.queryParam(PagindData.PAGINED_STATE).orElse(null);
+        String documento = request.queryParam(PagindData.PAGINED_DOCUMENT).orElse(null);
+        String email     = request.queryParam(PagindData.PAGINED_EMAIL).orElse(null);
+        int page         = parsePositive(request.queryParam(PagindData.PAGINED_PAGE).orElse(PagindData.PAGINED_PAGE_VALUE));
+        int size         = parsePositive(request.queryParam(PagindData.PAGINED_SIZE).orElse(PagindData.PAGINED_SIZE_VALUE));
+        Long cursor      = CursorCodec.decode(request.queryParam(PagindData.PAGINED_CURSOR).orElse(null));
+        CountMode count  = parseEnum(request.queryParam(PagindData.PAGINED_COUNT).orElse(null),
+                CountMode.class, CountMode.DEFAULT, Messages.COUNT_MODE_INVALID);
+        EmailMatchMode emailMatch = parseEnum(request.queryParam(PagindData.PAGINED_EMAIL_MATCH).orElse(null),
+                EmailMatchMode.class, EmailMatchMode.DEFAULT, Messages.EMAIL_MATCH_INVALID);
+
+        // Tope de tamaño: una sola petición no puede traer una página ilimitada a memoria
+        return PendingApplicationsCriteria.builder()
+                .state(estado)
+                .document(documento)
+                .email(email)
+                .emailMatch(emailMatch)
+                .page(page)
+                .size(Math.min(size, PagindData.PAGINED_MAX_SIZE))
+                .cursor(cursor)
+                .countMode(count)
+                .minAmount(parseFilter(request, PagindData.PAGINED_MIN_AMOUNT, BigDecimal::new))
+                .maxAmount(parseFilter(request, PagindData.PAGINED_MAX_AMOUNT, BigDecimal::new))
+                .termFrom(parseFilter(request, PagindData.PAGINED_TERM_FROM, LocalDate::parse))
+                .termTo(parseFilter(request, PagindData.PAGINED_TERM_TO, LocalDate::parse))
+                .loanTypeIds(parseList(request, PagindData.PAGINED_LOAN_TYPES, Long::valueOf))
+                .stateCodes(parseList(request, PagindData.PAGINED_STATES, Function.identity()))
+                .build();
+    }
+
+    private static <T> T parseFilter(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParam(name)
+                .filter(raw -> !raw.isBlank())
+                .map(raw -> parse(name, raw.trim(), parser))
+                .orElse(null);
+    }
+
+    /** Acepta {@code ?loanTypes=1,2} y también {@code ?loanTypes=1&loanTypes=2}. */
+    private static <T> Set<T> parseList(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParams().getOrDefault(name, List.of()).stream()
+                .flatMap(raw -> Arrays.stream(raw.split(",")))
+                .map(String::trim)
+                .filter(raw -> !raw.isEmpty())
+                .map(raw -> parse(name, raw, parser))
+                .collect(Collectors.toSet());
+    }
+
+    private static <T> T parse(String name, String raw, Function<String, T> parser) {
+        try {
+            return parser.apply(raw);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(Messages.filterInvalid(name), e);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(String raw, Class<E> type, E defaultValue, String message) {
+        if (raw == null || raw.isBlank()) return defaultValue;
+        try {
+            return Enum.valueOf(type, raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(message, e);
+        }
+    }
+
+    private static int parsePositive(String raw) {
+        try {
+            int value = Integer.parseInt(raw.trim());
+            if (value < 1) throw new IllegalArgumentException(Messages.PAGE_INVALID);
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(Messages.PAGE_INVALID, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.crediya.loan.api.pagination;
+
+import com.crediya.loan.usecase.shared.Messages;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica el último id_solicitud de una página como un token opaco (base64url) para el
+ * parámetro {@code cursor}. El cliente no debe interpretar su contenido.
+ */
+public final class CursorCodec {
+
+    private static final String PREFIX = "id:";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Long lastId) {
+        if (lastId == null) return null;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @throws IllegalArgumentException si el token no fue generado por {@link #encode(Long)} */
+    public static Long decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(Messages.CURSOR_INVALID);
+            }
+            long id = Long.parseLong(raw.substring(PREFIX.length()));
+            if (id <= 0) {
+                throw new IllegalArgumentException(Messages.CURSOR_INVALID);
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException y errores de base64 también son IllegalArgumentException
+            throw new IllegalArgumentException(Messages.CURSOR_INVALID, e);
+        }
+    }
+}
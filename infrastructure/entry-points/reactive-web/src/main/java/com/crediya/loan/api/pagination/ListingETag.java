@@ -0,0 +1,55 @@
+package com.crediya.loan.api.pagination;
+
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.api.dto.PagedResponseDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * ETag débil del listado de solicitudes: resumen de la página que se responde (metadatos de
+ * paginación y cada campo de cada registro, incluidos los datos del servicio de usuarios). Cualquier
+ * cambio visible en la página lo cambia, venga de una inserción, de un cambio de estado o de otra
+ * instancia. Es débil porque la misma página puede salir en JSON, Smile o CBOR, comprimida o no.
+ */
+public final class ListingETag {
+
+    private static final int DIGEST_BYTES = 12;
+
+    private ListingETag() {
+    }
+
+    public static String of(PagedResponseDto<ApplicationPaginedDto> page) {
+        MessageDigest digest = sha256();
+        update(digest, page.getPage_number(), page.getPage_size(), page.getTotal_record_count(),
+                page.getNext(), page.getHas_next());
+        for (ApplicationPaginedDto row : page.getRecords()) {
+            update(digest, row.id(), row.amount(), row.term(), row.email(), row.identityDocument(), row.state(),
+                    row.loan(), row.stateId(), row.loanTypeId(), row.fullName(), row.baseSalary());
+        }
+        return "W/\"" + HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), DIGEST_BYTES)) + "\"";
+    }
+
+    // ---------------- MÉTODOS PRIVADOS ----------------
+
+    private static void update(MessageDigest digest, Object... values) {
+        for (Object value : values) {
+            // el separador evita que ("ab", "c") y ("a", "bc") den el mismo resumen
+            digest.update(Objects.toString(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 es obligatorio en toda JVM
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.crediya.loan.api.timing;
+
+import com.crediya.loan.model.shared.Stage;
+import com.crediya.loan.model.shared.gateways.StageTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link StageTimer} sobre Micrometer: un timer {@code crediya.stage.duration} con histograma de
+ * percentiles por etapa y resultado ({@code success}, {@code error}, {@code cancelled}). Si la
+ * petición trae {@link StageTimings} en el contexto, la duración también se agrega ahí.
+ */
+@Component
+public class MicrometerStageTimer implements StageTimer {
+
+    static final String METRIC = "crediya.stage.duration";
+    static final String SUCCESS = "success";
+    static final String ERROR = "error";
+    static final String CANCELLED = "cancelled";
+
+    private final MeterRegistry registry;
+    // Los timers se resuelven una vez por etapa/resultado en vez de armar el builder en cada señal
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerStageTimer(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> Mono<T> time(Stage stage, Mono<T> source) {
+        return Mono.deferContextual(ctx -> {
+            Measurement measurement = new Measurement(stage, ctx);
+            return source
+                    .doOnSuccess(value -> measurement.stop(SUCCESS))
+                    .doOnError(err -> measurement.stop(ERROR))
+                    .doOnCancel(() -> measurement.stop(CANCELLED));
+        });
+    }
+
+    @Override
+    public <T> Flux<T> time(Stage stage, Flux<T> source) {
+        return Flux.deferContextual(ctx -> {
+            Measurement measurement = new Measurement(stage, ctx);
+            return source
+                    .doOnComplete(() -> measurement.stop(SUCCESS))
+                    .doOnError(err -> measurement.stop(ERROR))
+                    .doOnCancel(() -> measurement.stop(CANCELLED));
+        });
+    }
+
+    private Timer timer(Stage stage, String outcome) {
+        return timers.computeIfAbsent(stage.id() + '|' + outcome, key -> Timer.builder(METRIC)
+                .description("Duración de cada etapa de una petición")
+                .tag("stage", stage.id())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /** Una medición por suscripción; solo la primera señal terminal cuenta. */
+    private final class Measurement {
+
+        private final Stage stage;
+        private final StageTimings timings;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean stopped = new AtomicBoolean(false);
+
+        Measurement(Stage stage, ContextView ctx) {
+            this.stage = stage;
+            this.timings = ctx.getOrDefault(StageTimings.CONTEXT_KEY, null);
+        }
+
+        void stop(String outcome) {
+            if (!stopped.compareAndSet(false, true)) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            timer(stage, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            if (timings != null) {
+                timings.add(stage, elapsed);
+            }
+        }
+    }
+}
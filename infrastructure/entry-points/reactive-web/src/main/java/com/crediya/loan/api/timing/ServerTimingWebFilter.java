@@ -0,0 +1,30 @@
+package com.crediya.loan.api.timing;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Abre un {@link StageTimings} por petición y, justo antes de enviar la respuesta, publica las
+ * etapas medidas en la cabecera {@code Server-Timing}. Las peticiones sin etapas no llevan cabecera.
+ */
+@Component
+public class ServerTimingWebFilter implements WebFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        StageTimings timings = new StageTimings();
+        exchange.getResponse().beforeCommit(() -> {
+            if (!timings.isEmpty()) {
+                exchange.getResponse().getHeaders().set(HEADER, timings.toHeader());
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(StageTimings.CONTEXT_KEY, timings));
+    }
+}
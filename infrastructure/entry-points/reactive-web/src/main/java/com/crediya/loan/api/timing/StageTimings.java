@@ -0,0 +1,37 @@
+package com.crediya.loan.api.timing;
+
+import com.crediya.loan.model.shared.Stage;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Duraciones por etapa de una sola petición, para la cabecera {@code Server-Timing}. Viaja en el
+ * contexto de Reactor bajo {@link #CONTEXT_KEY}; las etapas concurrentes (zip) escriben a la vez.
+ */
+public final class StageTimings {
+
+    public static final Class<StageTimings> CONTEXT_KEY = StageTimings.class;
+
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+    void add(Stage stage, long nanos) {
+        entries.add(new Entry(stage, nanos));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /** Formato de la cabecera: {@code user-verify;dur=20.412, save;dur=3.100} (milisegundos). */
+    public String toHeader() {
+        return entries.stream()
+                .map(e -> String.format(Locale.ROOT, "%s;dur=%.3f", e.stage().id(), e.nanos() / 1_000_000.0))
+                .collect(Collectors.joining(", "));
+    }
+
+    private record Entry(Stage stage, long nanos) {
+    }
+}
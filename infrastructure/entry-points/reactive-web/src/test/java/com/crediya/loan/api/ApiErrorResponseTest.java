@@ -1,8 +1,11 @@
 package com.crediya.loan.api;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ApiErrorResponseTest {
@@ -45,4 +48,19 @@ class ApiErrorResponseTest {
         assertTrue(s.contains("ApiErrorResponse"));
         assertTrue(s.contains("status=400"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void json_mismaForma_queElMapaAnterior() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        String sinDetalle = mapper.writeValueAsString(new ApiErrorResponse("t", 500, "e", null, "/p", "GET"));
+        assertEquals("{\"timestamp\":\"t\",\"status\":500,\"error\":\"e\",\"message\":null,\"path\":\"/p\",\"method\":\"GET\"}",
+                sinDetalle);
+
+        String conViolaciones = mapper.writeValueAsString(new ApiErrorResponse("t", 400, "e", "m", "/p", "POST", null,
+                List.of(new ApiErrorResponse.Violation("email", "must not be blank", null))));
+        assertTrue(conViolaciones.endsWith(
+                "\"method\":\"POST\",\"violations\":[{\"field\":\"email\",\"message\":\"must not be blank\",\"rejected\":null}]}"));
+        assertFalse(conViolaciones.contains("\"field\":null"));
+    }
+}
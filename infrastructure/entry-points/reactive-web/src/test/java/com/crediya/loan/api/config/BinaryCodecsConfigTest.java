@@ -0,0 +1,78 @@
+package com.crediya.loan.api.config;
+
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.api.dto.PagedResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCodecsConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    // como el de Spring Boot: fechas ISO en lugar de arreglos
+    private final ObjectMapper bootMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ServerCodecConfigurer configured() {
+        ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+        new BinaryCodecsConfig().binaryCodecsCustomizer(bootMapper).customize(configurer);
+        return configurer;
+    }
+
+    private HttpMessageWriter<?> writerFor(ServerCodecConfigurer configurer, MediaType mediaType) {
+        ResolvableType type = ResolvableType.forClass(PagedResponseDto.class);
+        return configurer.getWriters().stream()
+                .filter(writer -> writer.canWrite(type, mediaType))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void registersSmileAndCborWriters_butJsonStaysFirst() {
+        ServerCodecConfigurer configurer = configured();
+
+        assertTrue(writerFor(configurer, SMILE).getWritableMediaTypes().contains(SMILE));
+        assertTrue(writerFor(configurer, CBOR).getWritableMediaTypes().contains(CBOR));
+        // sin Accept el primer writer que acepta cualquier tipo sigue siendo el de JSON
+        assertTrue(writerFor(configurer, MediaType.ALL).getWritableMediaTypes().contains(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void cborUsesTheBootMapperConfiguration() throws Exception {
+        var page = new PagedResponseDto<>(1, 10, 1L, List.of(new ApplicationPaginedDto(
+                7L, new BigDecimal("2500000.00"), LocalDate.of(2027, 1, 31), "a@mail.com", "CC7",
+                "Pendiente de revisión", "Libre inversión", 1L, 1L, null, null)));
+
+        @SuppressWarnings("unchecked")
+        var writer = (EncoderHttpMessageWriter<Object>) writerFor(configured(), CBOR);
+        DataBuffer buffer = writer.getEncoder().encodeValue(page, DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forInstance(page), CBOR, Map.of());
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+
+        JsonNode tree = new ObjectMapper(new CBORFactory()).readTree(bytes);
+        assertEquals(1, tree.get("total_record_count").asInt());
+        assertEquals("2027-01-31", tree.get("records").get(0).get("term").asText());
+        assertFalse(tree.has("next"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.crediya.loan.api.config;
+
+import com.crediya.loan.api.ApiErrorResponse;
+import com.crediya.loan.api.dto.ApiResponse;
+import com.crediya.loan.api.dto.PagedResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedWriterJsonEncoderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new BlackbirdModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final CachedWriterJsonEncoder encoder = new CachedWriterJsonEncoder(mapper, JacksonConfig.RESPONSE_TYPES);
+    private final Jackson2JsonEncoder reference = new Jackson2JsonEncoder(mapper);
+
+    private static String encode(Jackson2JsonEncoder encoder, Object value, MimeType mimeType, Map<String, Object> hints) {
+        DataBuffer buffer = encoder.encodeValue(value, DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forInstance(value), mimeType, hints);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void responseTypes_produceTheSameJsonAsTheDefaultEncoder() {
+        var ok = ApiResponse.<Object>builder()
+                .success(true).message("Solicitud creada").data(Map.of("id", 7))
+                .path("/api/v1/solicitud").timestamp(Instant.parse("2025-08-28T05:18:04Z"))
+                .build();
+        var page = new PagedResponseDto<>(1, 10, 1L, List.of(Map.of("id", 7)), "Nw", true);
+        var error = new ApiErrorResponse("2025-08-28T05:18:04Z", 400, "Bad Request", "Datos de entrada inválidos",
+                "/api/v1/solicitud", "POST", null,
+                List.of(new ApiErrorResponse.Violation("email", "must not be blank", "")));
+
+        for (Object value : List.of(ok, page, error)) {
+            assertEquals(encode(reference, value, MediaType.APPLICATION_JSON, Map.of()),
+                    encode(encoder, value, MediaType.APPLICATION_JSON, Map.of()));
+        }
+    }
+
+    @Test
+    void otherTypesAndJsonViews_fallBackToTheDefaultPath() {
+        assertEquals("{\"a\":1}", encode(encoder, Map.of("a", 1), MediaType.APPLICATION_JSON, Map.of()));
+
+        var error = new ApiErrorResponse("t", 500, "Internal Server Error", null, "/p", "GET");
+        String withView = encode(encoder, error, MediaType.APPLICATION_JSON,
+                Map.of(Jackson2CodecSupport.JSON_VIEW_HINT, Views.Public.class));
+        assertEquals(encode(reference, error, MediaType.APPLICATION_JSON,
+                Map.of(Jackson2CodecSupport.JSON_VIEW_HINT, Views.Public.class)), withView);
+    }
+
+    interface Views {
+        interface Public {}
+    }
+}
@@ -0,0 +1,99 @@
+package com.crediya.loan.api.controller;
+
+import com.crediya.loan.api.applicationMapper.ApplicationMapper;
+import com.crediya.loan.model.application.Application;
+import com.crediya.loan.model.application.BatchItemResult;
+import com.crediya.loan.usecase.generaterequest.GenerateBatchRequestUseCase;
+import com.crediya.loan.usecase.shared.Messages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationBatchHandlerTest {
+
+    private static final String ITEM = """
+            {"amount":1500000,"term":"2026-12-31","email":"user%d@mail.com","identityDocument":"10000%d","loanTypeId":1}""";
+
+    @Mock
+    private GenerateBatchRequestUseCase generateBatchRequestUseCase;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setup() {
+        var handler = new ApplicationBatchHandler(generateBatchRequestUseCase, Mappers.getMapper(ApplicationMapper.class));
+        RouterFunction<ServerResponse> router = route(POST("/api/v1/solicitud/batch"), handler::createApplications);
+        client = WebTestClient.bindToRouterFunction(router).build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createApplications_mapsEveryItemAndReportsPerItemResult() {
+        var saved = Application.builder().id(10L).email("user1@mail.com").amount(new BigDecimal("1500000")).build();
+        when(generateBatchRequestUseCase.execute(anyList())).thenReturn(Mono.just(List.of(
+                BatchItemResult.created(0, saved),
+                BatchItemResult.rejected(1, "User", Messages.USER_INVALID))));
+
+        client.post().uri("/api/v1/solicitud/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + ITEM.formatted(1, 1) + "," + ITEM.formatted(2, 2) + "]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(Messages.BATCH_PROCESSED)
+                .jsonPath("$.data.total").isEqualTo(2)
+                .jsonPath("$.data.created").isEqualTo(1)
+                .jsonPath("$.data.rejected").isEqualTo(1)
+                .jsonPath("$.data.items[0].status").isEqualTo("CREATED")
+                .jsonPath("$.data.items[0].application.id").isEqualTo(10)
+                .jsonPath("$.data.items[0].message").doesNotExist()
+                .jsonPath("$.data.items[1].status").isEqualTo("REJECTED")
+                .jsonPath("$.data.items[1].field").isEqualTo("User")
+                .jsonPath("$.data.items[1].application").doesNotExist();
+
+        ArgumentCaptor<List<Application>> cap = ArgumentCaptor.forClass(List.class);
+        verify(generateBatchRequestUseCase, times(1)).execute(cap.capture());
+        assertEquals(2, cap.getValue().size());
+        assertEquals("100002", cap.getValue().get(1).getIdentityDocument());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createApplications_oversizedBody_isTruncatedToOneOverTheLimit() {
+        when(generateBatchRequestUseCase.execute(anyList())).thenReturn(Mono.just(List.of()));
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < GenerateBatchRequestUseCase.MAX_BATCH_SIZE + 50; i++) {
+            body.append(i == 0 ? "" : ",").append(ITEM.formatted(i, i));
+        }
+        body.append("]");
+
+        client.post().uri("/api/v1/solicitud/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body.toString())
+                .exchange()
+                .expectStatus().isOk();
+
+        ArgumentCaptor<List<Application>> cap = ArgumentCaptor.forClass(List.class);
+        verify(generateBatchRequestUseCase).execute(cap.capture());
+        assertEquals(GenerateBatchRequestUseCase.MAX_BATCH_SIZE + 1, cap.getValue().size());
+    }
+}
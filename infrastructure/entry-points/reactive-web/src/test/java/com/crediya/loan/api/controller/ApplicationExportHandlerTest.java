@@ -0,0 +1,132 @@
+package com.crediya.loan.api.controller;
+
+import com.crediya.loan.api.applicationMapper.ApplicationPaginedMapper;
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.PendingApplicationsCriteria;
+import com.crediya.loan.usecase.exportapplications.ExportApplicationsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationExportHandlerTest {
+
+    @Mock
+    private ExportApplicationsUseCase exportApplicationsUseCase;
+
+    @Mock
+    private ApplicationPaginedMapper applicationPaginedMapper;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setup() {
+        var handler = new ApplicationExportHandler(exportApplicationsUseCase, applicationPaginedMapper);
+        RouterFunction<ServerResponse> router = route(GET("/api/v1/solicitud/export"), handler::exportApplications);
+        client = WebTestClient.bindToRouterFunction(router).build();
+    }
+
+    private static ApplicationPagined app(long id) {
+        return ApplicationPagined.builder().id(id).email("u" + id + "@mail.com").build();
+    }
+
+    private void mapByEcho() {
+        when(applicationPaginedMapper.toResponseDto(any(ApplicationPagined.class))).thenAnswer(inv -> {
+            ApplicationPagined a = inv.getArgument(0);
+            return new ApplicationPaginedDto(a.getId(), new BigDecimal("100.00"), null, a.getEmail(),
+                    null, "Pendiente", null, null, null, "Ana, Diaz", null);
+        });
+    }
+
+    @Test
+    void export_defaultsToNdjson_oneObjectPerLine() {
+        when(exportApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Flux.just(app(2), app(1)));
+        mapByEcho();
+
+        String body = client.get().uri("/api/v1/solicitud/export?state=Pendiente")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(body);
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":2"));
+
+        ArgumentCaptor<PendingApplicationsCriteria> cap = ArgumentCaptor.forClass(PendingApplicationsCriteria.class);
+        verify(exportApplicationsUseCase).execute(cap.capture());
+        assertEquals("Pendiente", cap.getValue().state());
+    }
+
+    @Test
+    void export_csv_writesHeaderAndEscapedRows() {
+        when(exportApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Flux.just(app(7)));
+        mapByEcho();
+
+        String body = client.get().uri("/api/v1/solicitud/export?format=csv")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(ApplicationExportHandler.TEXT_CSV)
+                .expectHeader().valueMatches("Content-Disposition", "attachment; filename=\"solicitudes.csv\"")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(body);
+        String[] lines = body.split("\r\n");
+        assertTrue(lines[0].startsWith("id,amount,term,email"));
+        assertEquals("7,100.00,,u7@mail.com,,Pendiente,,,,\"Ana, Diaz\",", lines[1]);
+    }
+
+    @Test
+    void export_csvViaAcceptHeader() {
+        when(exportApplicationsUseCase.execute(any(PendingApplicationsCriteria.class))).thenReturn(Flux.empty());
+
+        client.get().uri("/api/v1/solicitud/export")
+                .accept(ApplicationExportHandler.TEXT_CSV)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(ApplicationExportHandler.TEXT_CSV);
+    }
+
+    @Test
+    void export_streamsWithBackpressure() {
+        AtomicLong produced = new AtomicLong();
+        when(exportApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Flux.range(1, 1_000_000).map(i -> app(i)).doOnNext(a -> produced.incrementAndGet()));
+        mapByEcho();
+
+        Flux<String> body = client.get().uri("/api/v1/solicitud/export")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseBody();
+
+        StepVerifier.create(body.take(5)).expectNextCount(5).verifyComplete();
+
+        // el cliente cortó tras 5 registros: no se generó el millón completo
+        assertTrue(produced.get() < 1_000_000, "producidos: " + produced.get());
+    }
+}
@@ -5,11 +5,17 @@ import com.crediya.loan.api.applicationMapper.ApplicationPaginedMapper;
 import com.crediya.loan.api.dto.ApplicationPaginedDto;
 import com.crediya.loan.api.dto.ApplicationResponseDto;
 import com.crediya.loan.api.dto.ApplicationSaveDto;
+import com.crediya.loan.api.pagination.CursorCodec;
 import com.crediya.loan.model.application.Application;
 import com.crediya.loan.model.application.ApplicationPagined;
+import com.crediya.loan.model.application.CountMode;
+import com.crediya.loan.model.application.EmailMatchMode;
 import com.crediya.loan.model.application.PendingApplicationsCriteria;
 import com.crediya.loan.usecase.generaterequest.GenerateRequestUseCase;
 import com.crediya.loan.usecase.getpendingapplications.GetPendingApplicationsUseCase;
+import com.crediya.loan.usecase.shared.PagindData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
@@ -20,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -247,4 +254,186 @@ class ApplicationHandlerTest {
         verify(applicationPaginedMapper, times(2)).toResponseDto(any(ApplicationPagined.class));
         verifyNoMoreInteractions(applicationPaginedMapper, getPendingApplicationsUseCase, applicationMapper, validator, generateRequestUseCase);
     }
+
+    // ---------------- findApplications: cursor ----------------
+    @Test
+    void findApplications_withCursor_capsSizeAndReturnsNextToken() {
+        var app = ApplicationPagined.builder().id(7L).identityDocument("CC7").build();
+        var page = com.crediya.loan.model.shared.Page.of(List.of(app), 1, 100, 30L, true, 7L);
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(page));
+        when(applicationPaginedMapper.toResponseDto(app)).thenReturn(new ApplicationPaginedDto(
+                7L, null, null, null, "CC7", null, null, null, null, null, null));
+
+        client.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/solicitud/pending")
+                        .queryParam("size", "5000")
+                        .queryParam("cursor", CursorCodec.encode(20L))
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.records.length()").isEqualTo(1)
+                .jsonPath("$.next").isEqualTo(CursorCodec.encode(7L))
+                .jsonPath("$.has_next").isEqualTo(true);
+
+        ArgumentCaptor<PendingApplicationsCriteria> cap = ArgumentCaptor.forClass(PendingApplicationsCriteria.class);
+        verify(getPendingApplicationsUseCase).execute(cap.capture());
+        assertEquals(PagindData.PAGINED_MAX_SIZE, cap.getValue().size());
+        assertEquals(20L, cap.getValue().cursor());
+        assertTrue(cap.getValue().isCursorMode());
+    }
+
+    @Test
+    void findApplications_withInvalidCursor_doesNotCallUseCase() {
+        client.get()
+                .uri("/api/v1/solicitud/pending?cursor=no-es-un-cursor")
+                .exchange()
+                .expectStatus().is5xxServerError(); // sin ApiErrorFilter en este router; con el filtro es 400
+
+        verifyNoInteractions(getPendingApplicationsUseCase);
+    }
+
+    // ---------------- findApplications: count ----------------
+    @Test
+    void findApplications_countNone_omitsTotalAndPassesMode() {
+        var page = com.crediya.loan.model.shared.Page.<ApplicationPagined>of(List.of(), 1, 10, null, false, null);
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(page));
+
+        client.get()
+                .uri("/api/v1/solicitud/pending?count=none")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total_record_count").doesNotExist()
+                .jsonPath("$.has_next").isEqualTo(false);
+
+        ArgumentCaptor<PendingApplicationsCriteria> cap = ArgumentCaptor.forClass(PendingApplicationsCriteria.class);
+        verify(getPendingApplicationsUseCase).execute(cap.capture());
+        assertEquals(CountMode.NONE, cap.getValue().countMode());
+    }
+
+    @Test
+    void findApplications_withoutCount_usesCachedByDefault() {
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(com.crediya.loan.model.shared.Page.<ApplicationPagined>of(List.of(), 1, 10, 0)));
+
+        client.get().uri("/api/v1/solicitud/pending").exchange().expectStatus().isOk();
+
+        ArgumentCaptor<PendingApplicationsCriteria> cap = ArgumentCaptor.forClass(PendingApplicationsCriteria.class);
+        verify(getPendingApplicationsUseCase).execute(cap.capture());
+        assertEquals(CountMode.CACHED, cap.getValue().countMode());
+    }
+
+    // ---------------- findApplications: filtros ----------------
+    @Test
+    void findApplications_richFilters_areParsedIntoCriteria() {
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(com.crediya.loan.model.shared.Page.<ApplicationPagined>of(List.of(), 1, 10, 0)));
+
+        client.get()
+                .uri("/api/v1/solicitud/pending?minAmount=1000.50&termTo=2026-01-31&loanTypes=1,2&loanTypes=3&states=PEN&emailMatch=fulltext")
+                .exchange()
+                .expectStatus().isOk();
+
+        ArgumentCaptor<PendingApplicationsCriteria> cap = ArgumentCaptor.forClass(PendingApplicationsCriteria.class);
+        verify(getPendingApplicationsUseCase).execute(cap.capture());
+        var criteria = cap.getValue();
+        assertEquals(new BigDecimal("1000.50"), criteria.minAmount());
+        assertNull(criteria.maxAmount());
+        assertEquals(LocalDate.of(2026, 1, 31), criteria.termTo());
+        assertEquals(Set.of(1L, 2L, 3L), criteria.loanTypeIds());
+        assertEquals(Set.of("PEN"), criteria.stateCodes());
+        assertEquals(EmailMatchMode.FULLTEXT, criteria.emailMatch());
+    }
+
+    @Test
+    void findApplications_malformedFilter_doesNotCallUseCase() {
+        client.get()
+                .uri("/api/v1/solicitud/pending?loanTypes=uno")
+                .exchange()
+                .expectStatus().is5xxServerError(); // sin ApiErrorFilter en este router; con el filtro es 400
+
+        verifyNoInteractions(getPendingApplicationsUseCase);
+    }
+
+    // ---------------- findApplications: GET condicional ----------------
+    @Test
+    void findApplications_ifNoneMatchSamePage_returns304WithoutBody() {
+        var app = ApplicationPagined.builder().id(7L).identityDocument("CC7").build();
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(com.crediya.loan.model.shared.Page.of(List.of(app), 1, 10, 1)));
+        when(applicationPaginedMapper.toResponseDto(app)).thenReturn(new ApplicationPaginedDto(
+                7L, null, null, null, "CC7", "Pendiente de revisión", null, null, null, null, null));
+
+        String etag = client.get().uri("/api/v1/solicitud/pending?page=1&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, private")
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+        assertNotNull(etag);
+
+        client.get().uri("/api/v1/solicitud/pending?page=1&size=10")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, private")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void findApplications_rowChangedInPlace_returnsFreshPageWithNewETag() {
+        var app = ApplicationPagined.builder().id(7L).identityDocument("CC7").build();
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(com.crediya.loan.model.shared.Page.of(List.of(app), 1, 10, 1)));
+        when(applicationPaginedMapper.toResponseDto(app)).thenReturn(new ApplicationPaginedDto(
+                7L, null, null, null, "CC7", "Pendiente de revisión", null, null, null, null, null));
+        String previous = client.get().uri("/api/v1/solicitud/pending")
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        // mismo total y mismo id: solo cambia el estado de la fila
+        when(applicationPaginedMapper.toResponseDto(app)).thenReturn(new ApplicationPaginedDto(
+                7L, null, null, null, "CC7", "Revision manual", null, null, null, null, null));
+
+        String current = client.get().uri("/api/v1/solicitud/pending")
+                .header(HttpHeaders.IF_NONE_MATCH, previous)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.records[0].state").isEqualTo("Revision manual")
+                .returnResult()
+                .getResponseHeaders().getETag();
+
+        assertNotEquals(previous, current);
+    }
+
+    // ---------------- findApplications: negociación de formato ----------------
+    @Test
+    void findApplications_acceptSmile_returnsSmileBodyAndVariesByAccept() throws Exception {
+        var app = ApplicationPagined.builder().id(7L).identityDocument("CC7").build();
+        when(getPendingApplicationsUseCase.execute(any(PendingApplicationsCriteria.class)))
+                .thenReturn(Mono.just(com.crediya.loan.model.shared.Page.of(List.of(app), 1, 10, 1)));
+        when(applicationPaginedMapper.toResponseDto(app)).thenReturn(new ApplicationPaginedDto(
+                7L, null, null, null, "CC7", null, null, null, null, null, null));
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        byte[] body = client.get().uri("/api/v1/solicitud/pending")
+                .accept(smile)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(smile)
+                .expectHeader().value(HttpHeaders.VARY, vary -> assertTrue(vary.startsWith(HttpHeaders.ACCEPT)))
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+
+        var tree = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertEquals(1, tree.get("total_record_count").asInt());
+        assertEquals("CC7", tree.get("records").get(0).get("identityDocument").asText());
+    }
 }
@@ -0,0 +1,34 @@
+package com.crediya.loan.api.export;
+
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationCsvFormatTest {
+
+    @Test
+    void header_listsAllColumns() {
+        assertEquals("id,amount,term,email,identityDocument,state,loan,stateId,loanTypeId,fullName,baseSalary\r\n",
+                ApplicationCsvFormat.HEADER);
+    }
+
+    @Test
+    void row_formatsValuesAndEmptyNulls() {
+        var dto = new ApplicationPaginedDto(1L, new BigDecimal("1500.50"), LocalDate.of(2026, 3, 1),
+                "a@b.com", "123", "Pendiente", "Libre", 1L, 2L, null, null);
+
+        assertEquals("1,1500.50,2026-03-01,a@b.com,123,Pendiente,Libre,1,2,,\r\n", ApplicationCsvFormat.row(dto));
+    }
+
+    @Test
+    void escape_quotesSeparatorsAndNeutralizesFormulas() {
+        assertEquals("\"a,b\"", ApplicationCsvFormat.escape("a,b"));
+        assertEquals("\"di \"\"jo\"\"\"", ApplicationCsvFormat.escape("di \"jo\""));
+        assertEquals("'=HYPERLINK(1)", ApplicationCsvFormat.escape("=HYPERLINK(1)"));
+        assertEquals("-15.5", ApplicationCsvFormat.escape("-15.5"));
+    }
+}
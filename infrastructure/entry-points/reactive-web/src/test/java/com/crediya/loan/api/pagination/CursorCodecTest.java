@@ -0,0 +1,43 @@
+package com.crediya.loan.api.pagination;
+
+import com.crediya.loan.usecase.shared.Messages;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    void encodeDecode_roundTrip() {
+        String token = CursorCodec.encode(12345L);
+
+        assertNotNull(token);
+        assertFalse(token.contains("12345"), "el token debe ser opaco");
+        assertEquals(12345L, CursorCodec.decode(token));
+    }
+
+    @Test
+    void nullOrBlank_meansNoCursor() {
+        assertNull(CursorCodec.encode(null));
+        assertNull(CursorCodec.decode(null));
+        assertNull(CursorCodec.decode("  "));
+    }
+
+    @Test
+    void decode_garbage_throwsIllegalArgument() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("%%%"));
+        assertEquals(Messages.CURSOR_INVALID, ex.getMessage());
+    }
+
+    @Test
+    void decode_withoutPrefixOrNonPositive_throwsIllegalArgument() {
+        String noPrefix = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        String negative = Base64.getUrlEncoder().encodeToString("id:-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(noPrefix));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(negative));
+    }
+}
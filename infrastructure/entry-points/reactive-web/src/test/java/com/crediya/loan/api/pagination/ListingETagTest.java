@@ -0,0 +1,47 @@
+package com.crediya.loan.api.pagination;
+
+import com.crediya.loan.api.dto.ApplicationPaginedDto;
+import com.crediya.loan.api.dto.PagedResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingETagTest {
+
+    private static ApplicationPaginedDto row(long id, String state, String fullName) {
+        return new ApplicationPaginedDto(id, new BigDecimal("2500000.00"), null, "a@b.com", "CC" + id,
+                state, "Libre inversión", 1L, 1L, fullName, null);
+    }
+
+    private static PagedResponseDto<ApplicationPaginedDto> page(int number, ApplicationPaginedDto... rows) {
+        return new PagedResponseDto<>(number, 10, (long) rows.length, List.of(rows));
+    }
+
+    @Test
+    void samePage_givesTheSameWeakTag() {
+        String tag = ListingETag.of(page(1, row(7, "Pendiente", "Ana Díaz")));
+
+        assertEquals(tag, ListingETag.of(page(1, row(7, "Pendiente", "Ana Díaz"))));
+        assertTrue(tag.matches("W/\"[0-9a-f]{24}\""), tag);
+    }
+
+    @Test
+    void changesWithAnyVisibleField() {
+        String tag = ListingETag.of(page(1, row(7, "Pendiente", "Ana Díaz")));
+
+        // cambio de estado en el lugar: mismo total y mismo id
+        assertNotEquals(tag, ListingETag.of(page(1, row(7, "Revision manual", "Ana Díaz"))));
+        // dato del servicio de usuarios
+        assertNotEquals(tag, ListingETag.of(page(1, row(7, "Pendiente", "Ana Diaz"))));
+        assertNotEquals(tag, ListingETag.of(page(2, row(7, "Pendiente", "Ana Díaz"))));
+        assertNotEquals(tag, ListingETag.of(page(1, row(7, "Pendiente", "Ana Díaz"), row(8, "Pendiente", null))));
+    }
+
+    @Test
+    void fieldBoundariesAreNotAmbiguous() {
+        assertNotEquals(ListingETag.of(page(1, row(7, "ab", "c"))), ListingETag.of(page(1, row(7, "a", "bc"))));
+    }
+}
@@ -0,0 +1,93 @@
+package com.crediya.loan.api.timing;
+
+import com.crediya.loan.model.shared.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerStageTimerTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerStageTimer stageTimer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        stageTimer = new MicrometerStageTimer(registry);
+    }
+
+    private Timer timer(Stage stage, String outcome) {
+        return registry.find(MicrometerStageTimer.METRIC)
+                .tag("stage", stage.id())
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    void recordsSuccessPerStage() {
+        StepVerifier.create(stageTimer.time(Stage.SAVE, Mono.just("ok").delayElement(Duration.ofMillis(20))))
+                .expectNext("ok")
+                .verifyComplete();
+
+        Timer timer = timer(Stage.SAVE, MicrometerStageTimer.SUCCESS);
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 20);
+    }
+
+    @Test
+    void emptyMonoCountsAsSuccess() {
+        StepVerifier.create(stageTimer.time(Stage.VALIDATION, Mono.empty()))
+                .verifyComplete();
+
+        assertEquals(1, timer(Stage.VALIDATION, MicrometerStageTimer.SUCCESS).count());
+    }
+
+    @Test
+    void tagsErrorsAndCancellations() {
+        StepVerifier.create(stageTimer.time(Stage.USER_VERIFY, Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+        StepVerifier.create(stageTimer.time(Stage.PAGE_QUERY, Flux.never()))
+                .thenCancel()
+                .verify();
+
+        assertEquals(1, timer(Stage.USER_VERIFY, MicrometerStageTimer.ERROR).count());
+        assertEquals(1, timer(Stage.PAGE_QUERY, MicrometerStageTimer.CANCELLED).count());
+        assertNull(timer(Stage.USER_VERIFY, MicrometerStageTimer.SUCCESS));
+    }
+
+    @Test
+    void timesEachSubscriptionSeparately() {
+        Flux<Integer> rows = stageTimer.time(Stage.PAGE_QUERY, Flux.range(1, 3));
+
+        StepVerifier.create(rows).expectNextCount(3).verifyComplete();
+        StepVerifier.create(rows).expectNextCount(3).verifyComplete();
+
+        assertEquals(2, timer(Stage.PAGE_QUERY, MicrometerStageTimer.SUCCESS).count());
+    }
+
+    @Test
+    void addsDurationToRequestTimingsFromContext() {
+        StageTimings timings = new StageTimings();
+
+        StepVerifier.create(Mono.zip(
+                                stageTimer.time(Stage.USER_VERIFY, Mono.just(true)),
+                                stageTimer.time(Stage.STATE_LOOKUP, Mono.just("PEN")))
+                        .contextWrite(ctx -> ctx.put(StageTimings.CONTEXT_KEY, timings)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        String header = timings.toHeader();
+        assertTrue(header.contains("user-verify;dur="), header);
+        assertTrue(header.contains("state-lookup;dur="), header);
+    }
+}
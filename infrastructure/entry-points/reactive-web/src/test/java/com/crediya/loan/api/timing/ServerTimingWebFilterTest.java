@@ -0,0 +1,42 @@
+package com.crediya.loan.api.timing;
+
+import com.crediya.loan.model.shared.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingWebFilterTest {
+
+    private final ServerTimingWebFilter filter = new ServerTimingWebFilter();
+    private final MicrometerStageTimer stageTimer = new MicrometerStageTimer(new SimpleMeterRegistry());
+
+    @Test
+    void writesMeasuredStagesBeforeCommit() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/solicitud"));
+        WebFilterChain chain = ex -> stageTimer.time(Stage.VALIDATION, Mono.empty())
+                .then(stageTimer.time(Stage.SAVE, Mono.just(1L)))
+                .then(ex.getResponse().setComplete());
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        String header = exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.matches("validation;dur=\\d+\\.\\d{3}, save;dur=\\d+\\.\\d{3}"), header);
+    }
+
+    @Test
+    void omitsHeaderWhenNothingWasMeasured() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+        WebFilterChain chain = ex -> ex.getResponse().setComplete();
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.HEADER));
+    }
+}